@@ -0,0 +1,34 @@
+package com.arcane.onslaught.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * One full simulation step (engine.update) of the seeded late-game scenario.
+ * The world is rebuilt before every iteration so each iteration measures the same stretch of play.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GameLoopBenchmark {
+
+    @Param({"0", "1000", "3000"})
+    public int extraEnemies;
+
+    private LateGameScenario scenario;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        scenario = new LateGameScenario();
+        scenario.extraEnemies = extraEnemies;
+        scenario.build();
+    }
+
+    @Benchmark
+    public int engineUpdate() {
+        scenario.step();
+        return scenario.getEntityCount();
+    }
+}
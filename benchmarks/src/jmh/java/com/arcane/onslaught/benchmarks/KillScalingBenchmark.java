@@ -0,0 +1,70 @@
+package com.arcane.onslaught.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.arcane.onslaught.entities.GameEngine;
+import com.arcane.onslaught.entities.components.*;
+import com.arcane.onslaught.entities.systems.CollisionSystem;
+import com.arcane.onslaught.entities.systems.EnemySpawnSystem;
+import com.arcane.onslaught.entities.systems.SpatialIndexSystem;
+import com.arcane.onslaught.utils.Constants;
+import com.arcane.onslaught.utils.GameRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * CollisionSystem frame where {@code kills} enemies die at once, each hit by its own projectile.
+ * Time per frame should grow linearly with kills (flat time per kill); anything worse means a
+ * hidden scan in the hit or removal path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KillScalingBenchmark {
+
+    @Param({"0", "100", "300", "1000"})
+    public int kills;
+
+    private LateGameScenario scenario;
+    private final Vector2 spot = new Vector2();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scenario = new LateGameScenario();
+        scenario.warmupSeconds = 0f;
+        scenario.build();
+        scenario.getEngine().getSystem(EnemySpawnSystem.class).setProcessing(false);
+    }
+
+    @Setup(Level.Invocation)
+    public void placeVictims() {
+        scenario.clearWorld();
+        GameEngine engine = scenario.getEngine();
+        float difficulty = engine.getSystem(EnemySpawnSystem.class).getDifficulty();
+        GameRandom.RandomStream random = GameRandom.of(GameRandom.Channel.SPAWN);
+        for (int i = 0; i < kills; i++) {
+            spot.set(
+                Constants.ARENA_OFFSET_X + random.random(Constants.ARENA_WIDTH),
+                Constants.ARENA_OFFSET_Y + random.random(Constants.ARENA_HEIGHT));
+
+            Entity enemy = scenario.getEnemyFactory().spawnEnemy(engine, "zombie", spot, difficulty);
+            enemy.getComponent(HealthComponent.class).currentHealth = 1f;
+
+            Entity projectile = engine.createEntity();
+            projectile.add(engine.createComponent(PositionComponent.class).init(spot.x, spot.y));
+            projectile.add(engine.createComponent(CollisionComponent.class).init(6f, (short) 0, (short) 0));
+            projectile.add(engine.createComponent(ProjectileComponent.class).init(1000f, 1f, "Magic Bolt"));
+            engine.addEntity(projectile);
+        }
+        // Index the victims the same way a real frame would before collisions run
+        scenario.stepOnly(SpatialIndexSystem.class);
+    }
+
+    @Benchmark
+    public int collisionFrame() {
+        scenario.stepOnly(CollisionSystem.class);
+        return scenario.getEntityCount();
+    }
+}
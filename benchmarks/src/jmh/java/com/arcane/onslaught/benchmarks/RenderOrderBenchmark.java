@@ -0,0 +1,81 @@
+package com.arcane.onslaught.benchmarks;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.arcane.onslaught.entities.components.VisualComponent;
+import com.arcane.onslaught.entities.systems.RenderQueue;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Per-frame draw ordering: the old copy-and-sort by zIndex against the incrementally
+ * maintained RenderQueue. Each frame both see the same churn (1% of visuals die and respawn).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RenderOrderBenchmark {
+    private static final int[] LAYERS = { 0, 5, 10, 10, 10 }; // mostly sprites on the default layer
+
+    @Param({"5000", "20000", "50000"})
+    public int visuals;
+
+    private final ComponentMapper<VisualComponent> vm = ComponentMapper.getFor(VisualComponent.class);
+    private Array<Entity> entities;
+    private Array<Entity> renderQueue;
+    private RenderQueue queue;
+    private Comparator<Entity> comparator;
+    private int churnCursor = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MathUtils.random.setSeed(LateGameScenario.DEFAULT_SEED);
+        entities = new Array<>(true, visuals, Entity[]::new);
+        renderQueue = new Array<>(true, visuals, Entity[]::new);
+        queue = new RenderQueue(entity -> (long) vm.get(entity).zIndex << 32);
+        comparator = (a, b) -> Integer.compare(vm.get(a).zIndex, vm.get(b).zIndex);
+
+        for (int i = 0; i < visuals; i++) {
+            Entity entity = new Entity();
+            VisualComponent visual = new VisualComponent(16f, 16f, Color.WHITE);
+            visual.zIndex = LAYERS[MathUtils.random(LAYERS.length - 1)];
+            entity.add(visual);
+            entities.add(entity);
+            queue.add(entity);
+        }
+    }
+
+    @Benchmark
+    public Array<Entity> sortEveryFrame() {
+        churn(false);
+        renderQueue.clear();
+        renderQueue.addAll(entities);
+        renderQueue.sort(comparator);
+        return renderQueue;
+    }
+
+    @Benchmark
+    public Array<Entity> incrementalQueue() {
+        churn(true);
+        queue.fill(renderQueue);
+        return renderQueue;
+    }
+
+    private void churn(boolean notifyQueue) {
+        int count = Math.max(1, visuals / 100);
+        for (int i = 0; i < count; i++) {
+            Entity entity = entities.get(churnCursor);
+            churnCursor = (churnCursor + 1) % visuals;
+            if (notifyQueue) {
+                queue.remove(entity);
+                queue.add(entity);
+            }
+        }
+    }
+}
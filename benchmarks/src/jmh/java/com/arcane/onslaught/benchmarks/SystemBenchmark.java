@@ -0,0 +1,48 @@
+package com.arcane.onslaught.benchmarks;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.arcane.onslaught.entities.systems.AISystem;
+import com.arcane.onslaught.entities.systems.CollisionSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * A single system's update in the late-game scenario. Before each invocation the rest of the
+ * simulation advances one step (so the spatial index and positions are current), then only the
+ * measured system runs. Invocation-level setup is fine here: both updates take well over a microsecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SystemBenchmark {
+
+    @Param({"CollisionSystem", "AISystem"})
+    public String system;
+
+    @Param({"0", "1000", "3000"})
+    public int extraEnemies;
+
+    private LateGameScenario scenario;
+    private Class<? extends EntitySystem> type;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        type = system.equals("AISystem") ? AISystem.class : CollisionSystem.class;
+        scenario = new LateGameScenario();
+        scenario.extraEnemies = extraEnemies;
+        scenario.build();
+    }
+
+    @Setup(Level.Invocation)
+    public void advanceOthers() {
+        scenario.stepWithout(type);
+    }
+
+    @Benchmark
+    public int update() {
+        scenario.stepOnly(type);
+        return scenario.getEntityCount();
+    }
+}
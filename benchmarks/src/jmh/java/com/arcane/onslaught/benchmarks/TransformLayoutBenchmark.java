@@ -0,0 +1,94 @@
+package com.arcane.onslaught.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.arcane.onslaught.entities.GameEngine;
+import com.arcane.onslaught.entities.TransformStore;
+import com.arcane.onslaught.entities.components.PositionComponent;
+import com.arcane.onslaught.entities.components.VelocityComponent;
+import com.arcane.onslaught.entities.systems.MovementSystem;
+import com.arcane.onslaught.entities.systems.ParallelIteratingSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * MovementSystem over the component layout (one heap Vector2 per component) against the
+ * packed TransformStore, single-threaded. Entities are created in shuffled order with
+ * garbage in between so components are scattered the way they are after a long run.
+ *
+ * components: the default MovementSystem path.
+ * packedIntegrate: the packed loop alone, i.e. the cost if the arrays were authoritative.
+ * packedSystem: MovementSystem with the store enabled (load, packed loop, write back).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TransformLayoutBenchmark {
+
+    @Param({"10000"})
+    public int entities;
+
+    private GameEngine engine;
+    private MovementSystem movement;
+    private TransformStore store;
+    private boolean wasSequential;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        wasSequential = ParallelIteratingSystem.isSequential();
+        ParallelIteratingSystem.setSequential(true);
+        MathUtils.random.setSeed(LateGameScenario.DEFAULT_SEED);
+
+        engine = new GameEngine();
+        movement = new MovementSystem();
+        engine.addSystem(movement);
+        // The store only tracks entities while packed mode is on; components() switches it off
+        movement.setUsePackedStore(true);
+        store = movement.getTransformStore();
+
+        Array<Entity> created = new Array<>(true, entities, Entity[]::new);
+        Array<Object> garbage = new Array<>();
+        for (int i = 0; i < entities; i++) {
+            Entity entity = engine.createEntity();
+            entity.add(engine.createComponent(PositionComponent.class)
+                .init(MathUtils.random(2000f), MathUtils.random(2000f)));
+            garbage.add(new float[MathUtils.random(4, 64)]);
+            VelocityComponent vel = engine.createComponent(VelocityComponent.class).init(100f);
+            vel.velocity.set(MathUtils.random(-100f, 100f), MathUtils.random(-100f, 100f));
+            entity.add(vel);
+            created.add(entity);
+        }
+        created.shuffle();
+        for (Entity entity : created) engine.addEntity(entity);
+        garbage.clear();
+        System.gc();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ParallelIteratingSystem.setSequential(wasSequential);
+    }
+
+    @Benchmark
+    public int components() {
+        movement.setUsePackedStore(false);
+        movement.update(LateGameScenario.STEP);
+        return engine.getEntities().size();
+    }
+
+    @Benchmark
+    public float packedIntegrate() {
+        store.integrate(LateGameScenario.STEP);
+        return store.getX()[0];
+    }
+
+    @Benchmark
+    public int packedSystem() {
+        movement.setUsePackedStore(true);
+        movement.update(LateGameScenario.STEP);
+        return store.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.arcane.onslaught.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Fails (exit code 1) if a steady-state simulation step allocates more than the budget.
+ * Measured with the HotSpot per-thread allocation counters, summed over every live thread so
+ * work forked by ParallelIteratingSystem onto the common pool is counted too.
+ * The late-game scenario measures under 300 B/step, so the default budget leaves room for
+ * noise but fails on anything like a per-entity allocation creeping back into a hot path.
+ * Runs in about a second, so it is part of the build's check.
+ * Usage: AllocationBudgetCheck [bytes per step budget]
+ */
+public class AllocationBudgetCheck {
+    public static final long DEFAULT_BUDGET_BYTES_PER_STEP = 2 * 1024;
+    private static final float WARMUP_SECONDS = 10f;
+    private static final float MEASURE_SECONDS = 10f;
+
+    public static void main(String[] args) {
+        long budget = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_BUDGET_BYTES_PER_STEP;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // Warm-up (pools, JIT) is part of build()
+        LateGameScenario scenario = new LateGameScenario();
+        scenario.warmupSeconds = WARMUP_SECONDS;
+        scenario.build();
+
+        int steps = Math.round(MEASURE_SECONDS / LateGameScenario.STEP);
+        long before = totalAllocatedBytes(threads);
+        for (int i = 0; i < steps; i++) scenario.step();
+        long perStep = (totalAllocatedBytes(threads) - before) / steps;
+
+        System.out.println("Allocated per step: " + perStep + " bytes (budget " + budget + ")");
+        Gdx.app.exit();
+        if (perStep > budget) {
+            System.err.println("Allocation budget exceeded");
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    // Threads started mid-run count from zero; ids of threads that have exited report -1
+    private static long totalAllocatedBytes(com.sun.management.ThreadMXBean threads) {
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+}
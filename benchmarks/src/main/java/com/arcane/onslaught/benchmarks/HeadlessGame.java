@@ -0,0 +1,43 @@
+package com.arcane.onslaught.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import java.lang.reflect.Proxy;
+
+/**
+ * Boots libGDX without a window so core systems can run in benchmarks.
+ * The headless backend leaves Gdx.gl null; a no-op GL20 is installed so code that
+ * creates textures (TextureManager's fallback) still works. Nothing is ever drawn.
+ */
+public class HeadlessGame {
+    private static HeadlessApplication application;
+
+    public static synchronized void init() {
+        if (application != null) return;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // we drive the engine ourselves, no render loop
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] { GL20.class },
+            (proxy, method, args) -> defaultValue(method.getReturnType()));
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == int.class) return 0;
+        if (type == boolean.class) return false;
+        if (type == float.class) return 0f;
+        if (type == long.class) return 0L;
+        if (type == String.class) return "";
+        return null;
+    }
+
+    private HeadlessGame() {
+        // Prevent instantiation
+    }
+}
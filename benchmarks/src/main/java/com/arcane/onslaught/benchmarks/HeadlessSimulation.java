@@ -0,0 +1,34 @@
+package com.arcane.onslaught.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Quick headless run of the late-game scenario without JMH.
+ * Prints simulated steps per second and ns per entity per step.
+ * Usage: HeadlessSimulation [seconds to measure] [seed]
+ */
+public class HeadlessSimulation {
+
+    public static void main(String[] args) {
+        float seconds = args.length > 0 ? Float.parseFloat(args[0]) : 30f;
+        LateGameScenario scenario = new LateGameScenario();
+        if (args.length > 1) scenario.seed = Long.parseLong(args[1]);
+        scenario.build();
+
+        int steps = Math.round(seconds / LateGameScenario.STEP);
+        long entitySteps = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            entitySteps += scenario.getEntityCount();
+            scenario.step();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("=== Headless simulation (seed " + scenario.seed + ") ===");
+        System.out.println("Steps: " + steps + ", final entities: " + scenario.getEntityCount());
+        System.out.printf("Steps/sec: %.1f%n", steps / (elapsed / 1e9));
+        System.out.printf("ns/step: %.0f, ns/entity/step: %.1f%n", (double) elapsed / steps, (double) elapsed / entitySteps);
+        System.out.println(scenario.getEngine().getStatsSummary());
+        Gdx.app.exit();
+    }
+}
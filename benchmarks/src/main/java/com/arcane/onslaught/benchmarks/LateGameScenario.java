@@ -0,0 +1,156 @@
+package com.arcane.onslaught.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.arcane.onslaught.enemies.EnemyFactory;
+import com.arcane.onslaught.entities.GameEngine;
+import com.arcane.onslaught.entities.GameWorld;
+import com.arcane.onslaught.entities.components.*;
+import com.arcane.onslaught.entities.systems.EnemySpawnSystem;
+import com.arcane.onslaught.entities.systems.FloatingTextSystem;
+import com.arcane.onslaught.entities.systems.ParticleSystem;
+import com.arcane.onslaught.utils.Constants;
+import com.arcane.onslaught.utils.GameRandom;
+import com.arcane.onslaught.input.GameInputProcessor;
+import com.arcane.onslaught.spells.SpellManager;
+import com.arcane.onslaught.upgrades.PlayerBuild;
+import com.arcane.onslaught.upgrades.Upgrade;
+import com.arcane.onslaught.upgrades.UpgradePool;
+
+/**
+ * A scripted, seeded late-game run with no render systems (damage numbers and effects go to a
+ * FloatingTextSystem and ParticleSystem without a batch, which track and expire them without drawing).
+ * Defaults: minute 15, every spell unlocked, 5 stacks each of Multicast and Lingering Pain,
+ * player level 20, then a few simulated seconds so the arena is populated.
+ * Same seed and settings always give the same world.
+ */
+public class LateGameScenario {
+    public static final long DEFAULT_SEED = 1234L;
+    public static final float STEP = GameEngine.FIXED_STEP;
+
+    public long seed = DEFAULT_SEED;
+    public float gameMinutes = 15f;
+    public int playerLevel = 20;
+    public int multicastStacks = 5;
+    public int lingeringPainStacks = 5;
+    public float warmupSeconds = 20f;
+    // Enemies placed at random arena positions after warm-up, on top of the natural spawns
+    public int extraEnemies = 0;
+
+    private GameEngine engine;
+    private Entity player;
+    private SpellManager spellManager;
+    private PlayerBuild playerBuild;
+    private EnemyFactory enemyFactory;
+    private final Array<EntitySystem> suspended = new Array<>();
+
+    public LateGameScenario build() {
+        HeadlessGame.init();
+        GameRandom.getInstance().reseed(seed);
+
+        engine = new GameEngine();
+        spellManager = new SpellManager();
+        playerBuild = new PlayerBuild();
+        enemyFactory = new EnemyFactory();
+        GameWorld.addSimulationSystems(engine, new GameInputProcessor(), spellManager, playerBuild, enemyFactory);
+        engine.addSystem(new FloatingTextSystem());
+        engine.addSystem(new ParticleSystem());
+
+        player = GameWorld.createPlayer(engine);
+        player.remove(SpawningComponent.class); // skip the intro
+        player.getComponent(PlayerComponent.class).level = playerLevel;
+
+        UpgradePool pool = new UpgradePool();
+        for (Upgrade upgrade : pool.getAllUpgrades()) {
+            if (upgrade.getName().startsWith("Unlock: ")) apply(upgrade, 1);
+            else if (upgrade.getName().equals("Multicast")) apply(upgrade, multicastStacks);
+            else if (upgrade.getName().equals("Lingering Pain")) apply(upgrade, lingeringPainStacks);
+        }
+
+        engine.getSystem(EnemySpawnSystem.class).setGameTime(gameMinutes * 60f);
+        advance(warmupSeconds);
+        spawnEnemies(extraEnemies);
+        return this;
+    }
+
+    public void spawnEnemies(int count) {
+        EnemySpawnSystem spawner = engine.getSystem(EnemySpawnSystem.class);
+        GameRandom.RandomStream random = GameRandom.of(GameRandom.Channel.SPAWN);
+        Vector2 position = new Vector2();
+        for (int i = 0; i < count; i++) {
+            position.set(
+                Constants.ARENA_OFFSET_X + random.random(Constants.ARENA_WIDTH),
+                Constants.ARENA_OFFSET_Y + random.random(Constants.ARENA_HEIGHT));
+            enemyFactory.spawnRandomEnemy(engine, position, spawner.getDifficulty());
+        }
+    }
+
+    /** Removes everything except the player. Only call between updates. */
+    public void clearWorld() {
+        ImmutableArray<Entity> entities = engine.getEntities();
+        for (int i = entities.size() - 1; i >= 0; i--) {
+            Entity entity = entities.get(i);
+            if (entity != player) engine.removeEntity(entity);
+        }
+    }
+
+    /** Runs one step with only the given system processing, e.g. to time it alone. */
+    public void stepOnly(Class<? extends EntitySystem> type) {
+        for (EntitySystem system : engine.getSystems()) {
+            if (!system.checkProcessing() || system.getClass() == type) continue;
+            system.setProcessing(false);
+            suspended.add(system);
+        }
+        try {
+            step();
+        } finally {
+            resume();
+        }
+    }
+
+    /** Runs one step with the given system switched off. */
+    public void stepWithout(Class<? extends EntitySystem> type) {
+        for (EntitySystem system : engine.getSystems()) {
+            if (!system.checkProcessing() || system.getClass() != type) continue;
+            system.setProcessing(false);
+            suspended.add(system);
+        }
+        try {
+            step();
+        } finally {
+            resume();
+        }
+    }
+
+    private void resume() {
+        for (int i = 0; i < suspended.size; i++) suspended.get(i).setProcessing(true);
+        suspended.clear();
+    }
+
+    private void apply(Upgrade upgrade, int stacks) {
+        for (int i = 0; i < stacks; i++) {
+            upgrade.apply(player, spellManager, playerBuild);
+            playerBuild.addUpgrade(upgrade);
+        }
+    }
+
+    /** Runs one fixed simulation step. The player can't die, so the run never ends early. */
+    public void step() {
+        HealthComponent health = player.getComponent(HealthComponent.class);
+        health.currentHealth = health.maxHealth;
+        engine.update(STEP);
+    }
+
+    public void advance(float seconds) {
+        int steps = Math.round(seconds / STEP);
+        for (int i = 0; i < steps; i++) step();
+    }
+
+    public GameEngine getEngine() { return engine; }
+    public EnemyFactory getEnemyFactory() { return enemyFactory; }
+    public Entity getPlayer() { return player; }
+    public int getEntityCount() { return engine.getEntities().size(); }
+}
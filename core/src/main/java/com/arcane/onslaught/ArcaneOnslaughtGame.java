@@ -1,7 +1,12 @@
 package com.arcane.onslaught;
 
 import com.badlogic.gdx.Game;
+import com.arcane.onslaught.screens.LoadingScreen;
 import com.arcane.onslaught.screens.MenuScreen;
+import com.arcane.onslaught.utils.AssetLoader;
+import com.arcane.onslaught.utils.FontManager;
+import com.arcane.onslaught.utils.SoundManager;
+import com.arcane.onslaught.utils.TextureManager;
 
 /**
  * Main game class - entry point
@@ -10,8 +15,15 @@ public class ArcaneOnslaughtGame extends Game {
 
     @Override
     public void create() {
-        // Start with menu screen
-        setScreen(new MenuScreen(this));
+        // Menu assets first; gameplay and boss assets keep streaming in behind the menu
+        AssetLoader.getInstance().start();
+        setScreen(new LoadingScreen(this, AssetLoader.Stage.MENU, new MenuScreen(this)));
+    }
+
+    @Override
+    public void render() {
+        AssetLoader.getInstance().update(AssetLoader.FRAME_BUDGET_MS);
+        super.render();
     }
 
     @Override
@@ -20,5 +32,9 @@ public class ArcaneOnslaughtGame extends Game {
         if (screen != null) {
             screen.dispose();
         }
+        SoundManager.getInstance().dispose();
+        TextureManager.getInstance().dispose();
+        FontManager.getInstance().dispose();
+        AssetLoader.getInstance().dispose();
     }
 }
@@ -0,0 +1,292 @@
+package com.arcane.onslaught.debug;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.arcane.onslaught.entities.systems.ParallelIteratingSystem;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Per-system frame timings for GameEngine. While enabled, the engine runs each system in
+ * its own update pass and reports it here, so each sample includes the entity adds and
+ * removals that system caused.
+ *
+ * Per frame it keeps nanoseconds and bytes allocated per system (summed over the frame's fixed
+ * steps), entity counts of the system's family, and entities added and removed. The last
+ * WINDOW frames feed the p50/p95/p99 shown by ProfilerOverlay. startRecording writes one CSV row
+ * per system per frame, plus a FRAME row with the totals.
+ *
+ * Allocation bytes come from the HotSpot per-thread counters, summed over every live thread so
+ * ParallelIteratingSystem work on ForkJoin workers is counted. Thread ids are re-read at the
+ * start of a frame when the thread count changes; reading the counters by id doesn't allocate.
+ * They read -1 where the counter isn't available.
+ */
+public class FrameProfiler implements EntityListener {
+    public static final int WINDOW = 300; // 5 seconds at 60 fps
+    public static final String FRAME_ROW = "FRAME";
+
+    /** Rolling samples and the last computed percentiles for one system (or the whole frame). */
+    public static class SystemStats {
+        public final String name;
+        final long[] nanos = new long[WINDOW];
+        final long[] bytes = new long[WINDOW];
+
+        long frameNanos;
+        long frameBytes;
+        boolean ranThisFrame;
+
+        public int entities;
+        public long p50, p95, p99;
+        public long avgBytes;
+
+        SystemStats(String name) {
+            this.name = name;
+        }
+    }
+
+    private final com.sun.management.ThreadMXBean allocations = allocationCounter();
+
+    private final Array<SystemStats> systems = new Array<>();
+    private final ObjectMap<EntitySystem, SystemStats> statsOf = new ObjectMap<>();
+    private final SystemStats frame = new SystemStats(FRAME_ROW);
+    private final long[] scratch = new long[WINDOW];
+
+    private Engine engine;
+    private boolean enabled = false;
+    private long frameIndex = 0;
+    private int cursor = 0;
+    private int filled = 0;
+
+    private long systemStart;
+    private long frameStart;
+    // Per-thread counter snapshots, parallel to threadIds
+    private long[] threadIds = new long[0];
+    private long[] systemStartBytes = new long[0];
+    private long[] frameStartBytes = new long[0];
+    private int added;
+    private int removed;
+    private int steps;
+
+    private Writer csv;
+    private FileHandle csvFile;
+
+    public void attach(Engine engine) {
+        this.engine = engine;
+        engine.addEntityListener(Family.all().get(), this);
+    }
+
+    public void detach() {
+        stopRecording();
+        if (engine != null) engine.removeEntityListener(this);
+        engine = null;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        // Old samples would mix with a gap of unprofiled frames
+        cursor = 0;
+        filled = 0;
+    }
+
+    public boolean isEnabled() { return enabled || csv != null; }
+
+    // --- Called by GameEngine ---
+
+    public void beginFrame() {
+        for (int i = 0; i < systems.size; i++) {
+            SystemStats stats = systems.get(i);
+            stats.frameNanos = 0;
+            stats.frameBytes = 0;
+            stats.ranThisFrame = false;
+        }
+        added = 0;
+        removed = 0;
+        refreshThreads();
+        snapshotBytes(frameStartBytes);
+        frameStart = System.nanoTime();
+    }
+
+    public void beginSystem(EntitySystem system) {
+        snapshotBytes(systemStartBytes);
+        systemStart = System.nanoTime();
+    }
+
+    public void endSystem(EntitySystem system) {
+        long elapsed = System.nanoTime() - systemStart;
+        long bytes = bytesSince(systemStartBytes);
+        SystemStats stats = statsOf.get(system);
+        if (stats == null) {
+            stats = new SystemStats(system.getClass().getSimpleName());
+            statsOf.put(system, stats);
+            systems.add(stats);
+        }
+        stats.frameNanos += elapsed;
+        stats.frameBytes += bytes;
+        stats.ranThisFrame = true;
+        stats.entities = familySize(system);
+    }
+
+    public void endFrame(int steps) {
+        frame.frameNanos = System.nanoTime() - frameStart;
+        frame.frameBytes = bytesSince(frameStartBytes);
+        frame.entities = engine != null ? engine.getEntities().size() : 0;
+        this.steps = steps;
+
+        frame.nanos[cursor] = frame.frameNanos;
+        frame.bytes[cursor] = frame.frameBytes;
+        for (int i = 0; i < systems.size; i++) {
+            SystemStats stats = systems.get(i);
+            stats.nanos[cursor] = stats.frameNanos;
+            stats.bytes[cursor] = stats.frameBytes;
+        }
+        cursor = (cursor + 1) % WINDOW;
+        if (filled < WINDOW) filled++;
+
+        if (csv != null) writeFrame();
+        frameIndex++;
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        added++;
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        removed++;
+    }
+
+    // --- Percentiles ---
+
+    /** Recomputes p50/p95/p99 and average bytes over the rolling window. Sorts, so not every frame. */
+    public void computePercentiles() {
+        computePercentiles(frame);
+        for (int i = 0; i < systems.size; i++) computePercentiles(systems.get(i));
+    }
+
+    private void computePercentiles(SystemStats stats) {
+        if (filled == 0) return;
+        System.arraycopy(stats.nanos, 0, scratch, 0, filled);
+        Arrays.sort(scratch, 0, filled);
+        stats.p50 = scratch[(filled - 1) / 2];
+        stats.p95 = scratch[(int) ((filled - 1) * 0.95f)];
+        stats.p99 = scratch[(int) ((filled - 1) * 0.99f)];
+
+        long totalBytes = 0;
+        for (int i = 0; i < filled; i++) totalBytes += stats.bytes[i];
+        stats.avgBytes = totalBytes / filled;
+    }
+
+    public SystemStats getFrameStats() { return frame; }
+    public Array<SystemStats> getSystemStats() { return systems; }
+    public int getSampleCount() { return filled; }
+    public int getAdded() { return added; }
+    public int getRemoved() { return removed; }
+    public int getSteps() { return steps; }
+    public boolean hasAllocationCounter() { return allocations != null; }
+
+    // --- CSV export ---
+
+    public void startRecording(FileHandle file) {
+        stopRecording();
+        try {
+            csvFile = file;
+            csv = file.writer(false, "UTF-8");
+            csv.write("frame,system,nanos,alloc_bytes,entities,added,removed,steps\n");
+            System.out.println("Profiler: recording to " + file.file().getAbsolutePath());
+        } catch (RuntimeException | IOException e) {
+            System.err.println("Profiler: can't write " + file.path() + ": " + e.getMessage());
+            csv = null;
+            csvFile = null;
+        }
+    }
+
+    public void stopRecording() {
+        if (csv == null) return;
+        try {
+            csv.close();
+            System.out.println("Profiler: saved " + csvFile.path());
+        } catch (IOException e) {
+            System.err.println("Profiler: failed to close " + csvFile.path() + ": " + e.getMessage());
+        }
+        csv = null;
+        csvFile = null;
+    }
+
+    public boolean isRecording() { return csv != null; }
+
+    private void writeFrame() {
+        try {
+            writeRow(frame, added, removed);
+            for (int i = 0; i < systems.size; i++) {
+                SystemStats stats = systems.get(i);
+                if (stats.ranThisFrame) writeRow(stats, 0, 0);
+            }
+        } catch (IOException e) {
+            System.err.println("Profiler: write failed, recording stopped: " + e.getMessage());
+            csv = null;
+        }
+    }
+
+    private void writeRow(SystemStats stats, int added, int removed) throws IOException {
+        csv.write(frameIndex + "," + stats.name + "," + stats.frameNanos + "," + stats.frameBytes + ","
+            + stats.entities + "," + added + "," + removed + "," + steps + "\n");
+    }
+
+    // --- Helpers ---
+
+    private static int familySize(EntitySystem system) {
+        if (system instanceof IteratingSystem) return ((IteratingSystem) system).getEntities().size();
+        if (system instanceof ParallelIteratingSystem) return ((ParallelIteratingSystem) system).getEntities().size();
+        return -1;
+    }
+
+    // Allocates new snapshot arrays, so only called before the frame's first snapshot
+    private void refreshThreads() {
+        if (allocations == null || allocations.getThreadCount() == threadIds.length) return;
+        threadIds = allocations.getAllThreadIds();
+        systemStartBytes = new long[threadIds.length];
+        frameStartBytes = new long[threadIds.length];
+    }
+
+    private void snapshotBytes(long[] into) {
+        if (allocations == null) return;
+        for (int i = 0; i < threadIds.length; i++) into[i] = allocations.getThreadAllocatedBytes(threadIds[i]);
+    }
+
+    // Threads that exited in between (counter -1) are skipped rather than counted negative
+    private long bytesSince(long[] start) {
+        if (allocations == null) return -1;
+        long total = 0;
+        for (int i = 0; i < threadIds.length; i++) {
+            long now = allocations.getThreadAllocatedBytes(threadIds[i]);
+            if (now >= 0 && start[i] >= 0) total += now - start[i];
+        }
+        return total;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                if (threads.isThreadAllocatedMemorySupported()) {
+                    threads.setThreadAllocatedMemoryEnabled(true);
+                    return threads;
+                }
+            }
+        } catch (Throwable ignored) {
+            // Not a HotSpot-style JVM; timings still work
+        }
+        return null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.arcane.onslaught.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.arcane.onslaught.utils.Constants;
+
+/**
+ * Text table of FrameProfiler results in the top-left corner: p50/p95/p99 milliseconds per
+ * system over the rolling window, average KB allocated per frame and family size.
+ * The table is rebuilt every REFRESH_FRAMES frames so sorting and formatting stay cheap.
+ */
+public class ProfilerOverlay {
+    private static final int REFRESH_FRAMES = 30;
+    private static final float LINE_HEIGHT = 16f;
+    private static final float WIDTH = 560f;
+
+    // x offset of each table column; the first column is the system name
+    private static final float[] COLUMNS = { 0f, 220f, 280f, 340f, 400f, 480f };
+    private static final String[] HEADER = { "system", "p50 ms", "p95 ms", "p99 ms", "KB/frame", "entities" };
+
+    private final FrameProfiler profiler;
+    private final BitmapFont font = new BitmapFont();
+    private final StringBuilder summary = new StringBuilder(256);
+    private final Array<String[]> rows = new Array<>();
+    private int framesUntilRefresh = 0;
+
+    public boolean visible = false;
+
+    public ProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+        font.setColor(Color.WHITE);
+    }
+
+    public void draw(SpriteBatch batch, ShapeRenderer shapes, OrthographicCamera camera) {
+        if (!visible) return;
+        if (--framesUntilRefresh <= 0) {
+            rebuild();
+            framesUntilRefresh = REFRESH_FRAMES;
+        }
+
+        float left = 18f;
+        float top = Constants.SCREEN_HEIGHT - 10f;
+        float height = (rows.size + 4) * LINE_HEIGHT + 12f;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        shapes.setProjectionMatrix(camera.combined);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0f, 0f, 0f, 0.7f);
+        shapes.rect(10f, top - height, WIDTH, height);
+        shapes.end();
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        float y = top - 6f;
+        font.draw(batch, summary, left, y);
+        y -= LINE_HEIGHT * 2;
+        drawRow(batch, HEADER, left, y);
+        for (int i = 0; i < rows.size; i++) {
+            y -= LINE_HEIGHT;
+            drawRow(batch, rows.get(i), left, y);
+        }
+        y -= LINE_HEIGHT;
+        font.draw(batch, profiler.isRecording() ? "F4 hide   F6 stop CSV" : "F4 hide   F6 record CSV", left, y);
+        batch.end();
+    }
+
+    private void drawRow(SpriteBatch batch, String[] cells, float left, float y) {
+        for (int c = 0; c < cells.length; c++) font.draw(batch, cells[c], left + COLUMNS[c], y);
+    }
+
+    private void rebuild() {
+        profiler.computePercentiles();
+
+        FrameProfiler.SystemStats frame = profiler.getFrameStats();
+        summary.setLength(0);
+        summary.append("PROFILER  last ").append(profiler.getSampleCount()).append(" frames");
+        if (profiler.isRecording()) summary.append("  [REC]");
+        summary.append("\nframe p50/p95/p99: ").append(millis(frame.p50)).append(" / ")
+            .append(millis(frame.p95)).append(" / ").append(millis(frame.p99)).append(" ms   ")
+            .append(frame.entities).append(" entities, +").append(profiler.getAdded())
+            .append(" -").append(profiler.getRemoved()).append(" this frame");
+
+        Array<FrameProfiler.SystemStats> systems = profiler.getSystemStats();
+        rows.clear();
+        for (int i = 0; i < systems.size; i++) {
+            FrameProfiler.SystemStats stats = systems.get(i);
+            rows.add(new String[] {
+                stats.name,
+                millis(stats.p50),
+                millis(stats.p95),
+                millis(stats.p99),
+                profiler.hasAllocationCounter() ? String.format("%.1f", stats.avgBytes / 1024f) : "-",
+                stats.entities >= 0 ? Integer.toString(stats.entities) : ""
+            });
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1e6);
+    }
+
+    public void dispose() {
+        font.dispose();
+    }
+}
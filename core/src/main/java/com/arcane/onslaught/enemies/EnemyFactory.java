@@ -2,11 +2,12 @@ package com.arcane.onslaught.enemies;
 
 import com.arcane.onslaught.entities.components.*;
 import com.arcane.onslaught.entities.components.BossComponent.BossSkill;
+import com.arcane.onslaught.utils.AssetLoader;
+import com.arcane.onslaught.utils.GameRandom;
 import com.arcane.onslaught.utils.TextureManager;
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -16,6 +17,7 @@ import java.util.Map;
 
 public class EnemyFactory {
     private Map<String, EnemyType> enemyTypes;
+    private final GameRandom.RandomStream random = GameRandom.of(GameRandom.Channel.SPAWN);
     public enum BossArchetype { TITAN, BERSERKER, SPEEDSTER, TANK }
 
     private static final List<BossSkill> ELEMENTAL_SKILLS = Arrays.asList(
@@ -59,15 +61,15 @@ public class EnemyFactory {
     }
 
     public void spawnBoss(Engine engine, Vector2 position, int playerLevel) {
-        BossArchetype randomType = BossArchetype.values()[MathUtils.random(BossArchetype.values().length - 1)];
+        BossArchetype randomType = BossArchetype.values()[random.random(BossArchetype.values().length - 1)];
         spawnBoss(engine, position, playerLevel, randomType);
     }
 
     public void spawnBoss(Engine engine, Vector2 position, int playerLevel, BossArchetype archetype) {
-        Entity boss = new Entity();
+        Entity boss = engine.createEntity();
 
-        BossSkill elementalSkill = ELEMENTAL_SKILLS.get(MathUtils.random(ELEMENTAL_SKILLS.size() - 1));
-        BossSkill utilitySkill = UTILITY_SKILLS.get(MathUtils.random(UTILITY_SKILLS.size() - 1));
+        BossSkill elementalSkill = ELEMENTAL_SKILLS.get(random.random(ELEMENTAL_SKILLS.size() - 1));
+        BossSkill utilitySkill = UTILITY_SKILLS.get(random.random(UTILITY_SKILLS.size() - 1));
 
         String bossTitle = archetype.name() + " (" + elementalSkill.name() + ")";
 
@@ -91,6 +93,8 @@ public class EnemyFactory {
             case TANK: baseHealth *= 1.5f; baseSpeed *= 0.5f; break;
         }
 
+        // Boss sprites stream in last; a boss arriving before they finish waits for them here
+        AssetLoader.getInstance().finishLoading(AssetLoader.Stage.BOSS);
         TextureManager tm = TextureManager.getInstance();
         String textureName = "boss_void";
         Color tint = Color.WHITE;
@@ -105,26 +109,27 @@ public class EnemyFactory {
 
         VisualComponent vis;
         if (tm.hasTexture(textureName)) {
-            vis = new VisualComponent(size, size, tm.getTexture(textureName));
+            vis = engine.createComponent(VisualComponent.class).init(size, size, tm.getRegion(textureName));
             vis.color = Color.WHITE;
         } else if (tm.hasTexture("boss_void")) {
-            vis = new VisualComponent(size, size, tm.getTexture("boss_void"));
+            vis = engine.createComponent(VisualComponent.class).init(size, size, tm.getRegion("boss_void"));
             vis.color = tint;
         } else {
-            vis = new VisualComponent(size, size, tint);
+            vis = engine.createComponent(VisualComponent.class).init(size, size, tint);
         }
         vis.isFadingIn = true;
         vis.fadeInDuration = 2.6f;
         boss.add(vis);
 
-        boss.add(new PositionComponent(position.x, position.y));
-        boss.add(new VelocityComponent(baseSpeed));
-        boss.add(new HealthComponent(baseHealth));
-        boss.add(new EnemyComponent(baseDamage, 1500f));
-        boss.add(new CollisionComponent(size / 2.5f, (short)0, (short)0));
-        boss.add(new AIComponent());
+        boss.add(engine.createComponent(PositionComponent.class).init(position.x, position.y));
+        boss.add(engine.createComponent(VelocityComponent.class).init(baseSpeed));
+        boss.add(engine.createComponent(HealthComponent.class).init(baseHealth));
+        boss.add(engine.createComponent(EnemyComponent.class).init(baseDamage, 1500f));
+        boss.add(engine.createComponent(CollisionComponent.class).init(size / 2.5f, (short)0, (short)0));
+        boss.add(engine.createComponent(AIComponent.class));
+        boss.add(engine.createComponent(StatusEffectsComponent.class));
 
-        BossComponent bossComp = new BossComponent("Void Lord", bossTitle);
+        BossComponent bossComp = engine.createComponent(BossComponent.class).init("Void Lord", bossTitle);
         bossComp.availableSkills.add(elementalSkill);
         bossComp.availableSkills.add(utilitySkill);
         boss.add(bossComp);
@@ -155,7 +160,7 @@ public class EnemyFactory {
                 case "brute": radius = 18f; break;
                 case "elite": radius = 22f; break;
             }
-            enemy.add(new CollisionComponent(radius, (short)0, (short)0));
+            enemy.add(engine.createComponent(CollisionComponent.class).init(radius, (short)0, (short)0));
             return enemy;
         }
         return null;
@@ -168,13 +173,13 @@ public class EnemyFactory {
 
     private String selectEnemyType(float difficulty) {
         if (difficulty < 1.5f) {
-            int choice = MathUtils.random(10);
+            int choice = random.random(10);
             if (choice < 4) return "zombie";
             if (choice < 7) return "slime";
             if (choice < 9) return "imp";
             return "runner";
         } else if (difficulty < 2.5f) {
-            int choice = MathUtils.random(12);
+            int choice = random.random(12);
             if (choice < 3) return "zombie";
             if (choice < 5) return "slime";
             if (choice < 7) return "imp";
@@ -182,7 +187,7 @@ public class EnemyFactory {
             if (choice < 10) return "brute";
             return "swarm";
         } else if (difficulty < 4.0f) {
-            int choice = MathUtils.random(10);
+            int choice = random.random(10);
             if (choice < 2) return "zombie";
             if (choice < 3) return "imp";
             if (choice < 4) return "tank";
@@ -191,7 +196,7 @@ public class EnemyFactory {
             if (choice < 9) return "swarm";
             return "elite";
         } else {
-            int choice = MathUtils.random(10);
+            int choice = random.random(10);
             if (choice < 1) return "zombie";
             if (choice < 2) return "imp";
             if (choice < 3) return "tank";
@@ -226,7 +231,7 @@ public class EnemyFactory {
             case WALL_HORIZONTAL:
                 float startX = playerPos.x - (count * spacing) / 2;
                 // Spawn strictly above or below the visible area relative to player
-                float yPos = playerPos.y + (MathUtils.randomBoolean() ? 800f : -800f);
+                float yPos = playerPos.y + (random.randomBoolean() ? 800f : -800f);
                 for (int i = 0; i < count; i++) {
                     spawnEnemy(engine, enemyType, new Vector2(startX + i * spacing, yPos), difficulty);
                 }
@@ -234,7 +239,7 @@ public class EnemyFactory {
             case WALL_VERTICAL:
                 float startY = playerPos.y - (count * spacing) / 2;
                 // Spawn strictly left or right
-                float xPos = playerPos.x + (MathUtils.randomBoolean() ? 1000f : -1000f);
+                float xPos = playerPos.x + (random.randomBoolean() ? 1000f : -1000f);
                 for (int i = 0; i < count; i++) {
                     spawnEnemy(engine, enemyType, new Vector2(xPos, startY + i * spacing), difficulty);
                 }
@@ -250,9 +255,9 @@ public class EnemyFactory {
                 break;
             case TRIANGLE_WEDGE:
                 // Ensure the wedge origin is far away (min 600 units)
-                Vector2 spawnOffset = new Vector2(MathUtils.randomBoolean() ? 1 : -1, 0)
+                Vector2 spawnOffset = new Vector2(random.randomBoolean() ? 1 : -1, 0)
                     .setToRandomDirection()
-                    .scl(MathUtils.random(700f, 900f));
+                    .scl(random.random(700f, 900f));
 
                 Vector2 spawnOrigin = new Vector2(playerPos).add(spawnOffset);
 
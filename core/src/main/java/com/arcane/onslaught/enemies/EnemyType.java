@@ -3,7 +3,7 @@ package com.arcane.onslaught.enemies;
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.arcane.onslaught.entities.components.*;
 import com.arcane.onslaught.utils.TextureManager;
@@ -31,28 +31,29 @@ public abstract class EnemyType {
     }
 
     public Entity spawn(Engine engine, Vector2 position) {
-        Entity enemy = new Entity();
+        Entity enemy = engine.createEntity();
 
-        enemy.add(new PositionComponent(position.x, position.y));
-        enemy.add(new VelocityComponent(speed));
+        enemy.add(engine.createComponent(PositionComponent.class).init(position.x, position.y));
+        enemy.add(engine.createComponent(VelocityComponent.class).init(speed));
 
         // NEW: Try to use sprite, fallback to colored square
         TextureManager tm = TextureManager.getInstance();
         if (tm.hasTexture(textureKey)) {
-            Texture texture = tm.getTexture(textureKey);
-            enemy.add(new VisualComponent(size * 2f, size * 2f, texture, color));
+            TextureRegion region = tm.getRegion(textureKey);
+            enemy.add(engine.createComponent(VisualComponent.class).init(size * 2f, size * 2f, region, color));
         } else {
-            enemy.add(new VisualComponent(size, size, color));
+            enemy.add(engine.createComponent(VisualComponent.class).init(size, size, color));
         }
 
-        enemy.add(new HealthComponent(health));
+        enemy.add(engine.createComponent(HealthComponent.class).init(health));
 
-        EnemyComponent ec = new EnemyComponent();
+        EnemyComponent ec = engine.createComponent(EnemyComponent.class);
         ec.enemyType = name;
         ec.xpDropped = xpDrop;
         enemy.add(ec);
 
-        enemy.add(new AIComponent());
+        enemy.add(engine.createComponent(AIComponent.class));
+        enemy.add(engine.createComponent(StatusEffectsComponent.class));
 
         // Add special components for this enemy type
         addSpecialComponents(enemy);
@@ -0,0 +1,295 @@
+package com.arcane.onslaught.entities;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.arcane.onslaught.debug.FrameProfiler;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.Field;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+
+/**
+ * PooledEngine with pool hit-rate tracking and an optional fixed-timestep update.
+ * An obtain counts as a hit when the pool had a free object, i.e. it came back out of the
+ * pool instead of being freshly constructed. PooledEngine keeps its pools private, so they
+ * are looked up once by reflection; creating an entity or component then costs one getFree().
+ *
+ * In fixed-step mode, simulation systems tick in FIXED_STEP increments from an accumulator,
+ * while systems registered with addFrameSystem (rendering) run once per frame with the
+ * real delta and read getInterpolationAlpha() to draw between the last two steps.
+ *
+ * With an enabled FrameProfiler, every system runs in its own update pass with the others
+ * switched off, so it can be timed on its own. Ashley still flushes pending entity operations
+ * after each system, so the result is the same as a normal update.
+ */
+public class GameEngine extends PooledEngine {
+    public static final int ENTITY_POOL_INITIAL = 256;
+    public static final int ENTITY_POOL_MAX = 4096;
+    public static final int COMPONENT_POOL_INITIAL = 64;
+    public static final int COMPONENT_POOL_MAX = 4096;
+
+    // --- Fixed timestep ---
+    public static final float FIXED_STEP = 1f / 60f;
+    public static final int MAX_STEPS_PER_FRAME = 5;
+
+    /** Obtain/hit counters for one pool. */
+    public static class PoolStats {
+        public final String name;
+        public long obtained = 0;
+        public long reused = 0;
+
+        // Pool the counted objects come from; null when it couldn't be looked up
+        Pool<?> pool;
+
+        PoolStats(String name) {
+            this.name = name;
+        }
+
+        void record(boolean fromPool) {
+            obtained++;
+            if (fromPool) reused++;
+        }
+
+        public float getHitRate() {
+            return obtained == 0 ? 0f : (float) reused / obtained;
+        }
+
+        void reset() {
+            obtained = 0;
+            reused = 0;
+        }
+    }
+
+    // PooledEngine's component pools by class; null if the lookup failed
+    private final ObjectMap<Class<?>, ?> componentPools;
+
+    private final PoolStats entityStats = new PoolStats("Entity");
+    private final ObjectMap<Class<?>, PoolStats> componentStats = new ObjectMap<>();
+    private final Array<PoolStats> allStats = new Array<>();
+
+    private boolean fixedStep = false;
+    private float accumulator = 0f;
+    private float interpolationAlpha = 1f;
+    private int lastStepCount = 0;
+    // Set when a step hands control to another screen; ends the current update's step loop
+    private boolean stopRequested = false;
+    private final Array<EntitySystem> frameSystems = new Array<>();
+    private final Array<EntitySystem> suspended = new Array<>();
+
+    private FrameProfiler profiler;
+    private final Array<EntitySystem> profiled = new Array<>();
+
+    public GameEngine() {
+        super(ENTITY_POOL_INITIAL, ENTITY_POOL_MAX, COMPONENT_POOL_INITIAL, COMPONENT_POOL_MAX);
+        allStats.add(entityStats);
+
+        Object components = readField(PooledEngine.class, this, "componentPools");
+        entityStats.pool = (Pool<?>) readField(PooledEngine.class, this, "entityPool");
+        // ObjectMap<Class<?>, ReflectionPool> in PooledEngine.ComponentPools
+        @SuppressWarnings("unchecked")
+        ObjectMap<Class<?>, ?> pools = components != null
+            ? (ObjectMap<Class<?>, ?>) readField(components.getClass(), components, "pools") : null;
+        componentPools = pools;
+        if (entityStats.pool == null || componentPools == null) {
+            System.err.println("⚠ PooledEngine pools not found; pool hit rates will read 0%");
+        }
+    }
+
+    @Override
+    public Entity createEntity() {
+        boolean fromPool = isFromPool(entityStats);
+        Entity entity = super.createEntity();
+        entityStats.record(fromPool);
+        return entity;
+    }
+
+    @Override
+    public <T extends Component> T createComponent(Class<T> componentType) {
+        PoolStats stats = componentStats.get(componentType);
+        boolean fromPool = stats != null && isFromPool(stats);
+        T component = super.createComponent(componentType);
+        if (stats == null) {
+            stats = new PoolStats(componentType.getSimpleName());
+            // The type's pool exists now that something has been obtained from it
+            if (componentPools != null) stats.pool = (Pool<?>) componentPools.get(componentType);
+            componentStats.put(componentType, stats);
+            allStats.add(stats);
+        }
+        stats.record(fromPool);
+        return component;
+    }
+
+    /** Adds a system that runs once per rendered frame rather than on the fixed step. */
+    public void addFrameSystem(EntitySystem system) {
+        addSystem(system);
+        frameSystems.add(system);
+    }
+
+    @Override
+    public void removeSystem(EntitySystem system) {
+        super.removeSystem(system);
+        frameSystems.removeValue(system, true);
+    }
+
+    public void setFixedStep(boolean fixedStep) {
+        this.fixedStep = fixedStep;
+        accumulator = 0f;
+        interpolationAlpha = 1f;
+    }
+
+    public boolean isFixedStep() { return fixedStep; }
+
+    /** How far (0..1) the current frame is between the previous and the latest simulation step. */
+    public float getInterpolationAlpha() { return interpolationAlpha; }
+
+    /** Simulation steps run by the last update (always 1 outside fixed-step mode). */
+    public int getLastStepCount() { return lastStepCount; }
+
+    public void setProfiler(FrameProfiler profiler) {
+        if (this.profiler != null) this.profiler.detach();
+        this.profiler = profiler;
+        if (profiler != null) profiler.attach(this);
+    }
+
+    public FrameProfiler getProfiler() { return profiler; }
+
+    /**
+     * Runs no further fixed steps in the current update() and drops the remaining backlog.
+     * For listeners that switch screens mid-step (level-up, game over), so the simulation
+     * doesn't keep running behind the new screen. The next update() steps normally.
+     */
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        boolean profiling = profiler != null && profiler.isEnabled();
+        if (profiling) profiler.beginFrame();
+        try {
+            updateFrame(deltaTime);
+        } finally {
+            if (profiling) profiler.endFrame(lastStepCount);
+        }
+    }
+
+    private void updateFrame(float deltaTime) {
+        if (!fixedStep) {
+            interpolationAlpha = 1f;
+            lastStepCount = 1;
+            tick(deltaTime);
+            return;
+        }
+
+        // Simulation: render systems sit out the fixed steps
+        accumulator += deltaTime;
+        int steps = 0;
+        stopRequested = false;
+        suspend(true);
+        try {
+            while (accumulator >= FIXED_STEP && steps < MAX_STEPS_PER_FRAME && !stopRequested) {
+                tick(FIXED_STEP);
+                accumulator -= FIXED_STEP;
+                steps++;
+            }
+        } finally {
+            resume();
+        }
+        // Too far behind (hitch, breakpoint) or stopped: drop the backlog instead of catching up
+        if (accumulator >= FIXED_STEP) accumulator %= FIXED_STEP;
+        lastStepCount = steps;
+        interpolationAlpha = accumulator / FIXED_STEP;
+
+        // Presentation: once per frame with the real delta, simulation systems sit out
+        suspend(false);
+        try {
+            tick(deltaTime);
+        } finally {
+            resume();
+        }
+    }
+
+    /** One engine update; with the profiler on, one pass per active system instead. */
+    private void tick(float deltaTime) {
+        if (profiler == null || !profiler.isEnabled()) {
+            super.update(deltaTime);
+            return;
+        }
+
+        ImmutableArray<EntitySystem> systems = getSystems();
+        for (int i = 0; i < systems.size(); i++) {
+            EntitySystem system = systems.get(i);
+            if (!system.checkProcessing()) continue;
+            system.setProcessing(false);
+            profiled.add(system);
+        }
+        try {
+            for (int i = 0; i < profiled.size; i++) {
+                EntitySystem system = profiled.get(i);
+                system.setProcessing(true);
+                profiler.beginSystem(system);
+                try {
+                    super.update(deltaTime);
+                } finally {
+                    profiler.endSystem(system);
+                    system.setProcessing(false);
+                }
+            }
+        } finally {
+            for (int i = 0; i < profiled.size; i++) profiled.get(i).setProcessing(true);
+            profiled.clear();
+        }
+    }
+
+    // Turns off either the frame systems or the simulation systems, remembering which were on
+    private void suspend(boolean frame) {
+        for (EntitySystem system : getSystems()) {
+            if (frameSystems.contains(system, true) != frame) continue;
+            if (!system.checkProcessing()) continue;
+            system.setProcessing(false);
+            suspended.add(system);
+        }
+    }
+
+    private void resume() {
+        for (int i = 0; i < suspended.size; i++) suspended.get(i).setProcessing(true);
+        suspended.clear();
+    }
+
+    private static boolean isFromPool(PoolStats stats) {
+        return stats.pool != null && stats.pool.getFree() > 0;
+    }
+
+    private static Object readField(Class<?> owner, Object target, String name) {
+        try {
+            Field field = ClassReflection.getDeclaredField(owner, name);
+            field.setAccessible(true);
+            return field.get(target);
+        } catch (ReflectionException e) {
+            return null;
+        }
+    }
+
+    // --- Stats ---
+    public PoolStats getEntityStats() { return entityStats; }
+    public Array<PoolStats> getAllStats() { return allStats; }
+
+    public void resetStats() {
+        for (PoolStats stats : allStats) stats.reset();
+    }
+
+    public String getStatsSummary() {
+        StringBuilder sb = new StringBuilder("Pool hit rates:");
+        for (PoolStats stats : allStats) {
+            sb.append("\n  ").append(stats.name).append(": ")
+                .append(Math.round(stats.getHitRate() * 100f)).append("% of ")
+                .append(stats.obtained);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.arcane.onslaught.entities;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.Color;
+import com.arcane.onslaught.enemies.EnemyFactory;
+import com.arcane.onslaught.entities.components.*;
+import com.arcane.onslaught.entities.systems.*;
+import com.arcane.onslaught.input.GameInputProcessor;
+import com.arcane.onslaught.spells.SpellManager;
+import com.arcane.onslaught.upgrades.PlayerBuild;
+import com.arcane.onslaught.utils.Constants;
+import com.arcane.onslaught.utils.TextureManager;
+
+/**
+ * World setup shared by GameScreen and headless runs (benchmarks):
+ * the simulation systems in update order, and the player entity.
+ * Frame systems (rendering, HUD) are added by the caller.
+ */
+public class GameWorld {
+
+    public static void addSimulationSystems(GameEngine engine, GameInputProcessor inputProcessor,
+                                            SpellManager spellManager, PlayerBuild playerBuild, EnemyFactory enemyFactory) {
+        engine.addSystem(new EntityRegistry());
+        engine.addSystem(new PositionSnapshotSystem());
+        engine.addSystem(new PlayerInputSystem(inputProcessor));
+        engine.addSystem(new MovementSystem());
+        engine.addSystem(new AISystem(enemyFactory));
+        engine.addSystem(new SpatialIndexSystem());
+        engine.addSystem(new SpellCastSystem(spellManager, playerBuild));
+        engine.addSystem(new ProjectileSystem());
+        engine.addSystem(new EnemySpawnSystem(enemyFactory));
+        engine.addSystem(new XPMagnetSystem(playerBuild));
+        engine.addSystem(new StatusEffectSystem());
+        engine.addSystem(new RegenerationSystem());
+        engine.addSystem(new CollisionSystem(playerBuild));
+        engine.addSystem(new XPOrbMergeSystem());
+        engine.addSystem(new LifetimeSystem());
+        engine.addSystem(new RotationSystem());
+        engine.addSystem(new PlayerSpawnSystem());
+        engine.addSystem(new EventDispatchSystem());
+    }
+
+    public static Entity createPlayer(Engine engine) {
+        Entity player = new Entity();
+        float startX = Constants.SCREEN_WIDTH / 2f;
+        float startY = Constants.SCREEN_HEIGHT / 2f;
+        player.add(new PositionComponent(startX, startY));
+        player.add(new VelocityComponent(Constants.PLAYER_SPEED));
+        TextureManager tm = TextureManager.getInstance();
+        if (tm.hasTexture("player")) {
+            player.add(new VisualComponent(Constants.PLAYER_SIZE * 2f, Constants.PLAYER_SIZE * 2f, tm.getRegion("player")));
+        } else {
+            player.add(new VisualComponent(Constants.PLAYER_SIZE, Constants.PLAYER_SIZE, Color.CYAN));
+        }
+        player.add(new SpawningComponent(2.0f));
+        VisualComponent vis = player.getComponent(VisualComponent.class);
+        vis.isBobbing = true;
+        if (vis != null && vis.sprite != null) vis.sprite.setAlpha(0f);
+        player.add(new CollisionComponent(8f, (short)0, (short)0));
+        player.add(new HealthComponent(Constants.PLAYER_MAX_HEALTH));
+        player.add(new StatusEffectsComponent());
+        PlayerComponent pc = new PlayerComponent();
+        pc.xp = 0;
+        pc.xpToNextLevel = Constants.XP_TO_LEVEL_BASE;
+        pc.level = 1;
+        player.add(pc);
+        engine.addEntity(player);
+        return player;
+    }
+
+    private GameWorld() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,149 @@
+package com.arcane.onslaught.entities;
+
+import com.arcane.onslaught.entities.components.PositionComponent;
+import com.arcane.onslaught.entities.components.VelocityComponent;
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.util.Arrays;
+
+/**
+ * Packed x, y, vx, vy for every moving entity, indexed by a dense slot.
+ * Slots are handed out on add and compacted by swap-remove, so the arrays never have holes
+ * and a full pass is a straight loop the JIT can vectorise.
+ *
+ * PositionComponent and VelocityComponent stay authoritative: their Vector2 fields are
+ * public and written all over the game, so the store is filled from them with load(),
+ * updated in bulk, and written back with storePositions().
+ */
+public class TransformStore implements EntityListener {
+    public static final Family FAMILY = Family.all(PositionComponent.class, VelocityComponent.class).get();
+
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<VelocityComponent> vm = ComponentMapper.getFor(VelocityComponent.class);
+
+    private float[] x;
+    private float[] y;
+    private float[] vx;
+    private float[] vy;
+    private Entity[] entities;
+    private int size = 0;
+
+    private final ObjectIntMap<Entity> slotOf = new ObjectIntMap<>();
+
+    public TransformStore() {
+        this(256);
+    }
+
+    public TransformStore(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        entities = new Entity[capacity];
+    }
+
+    /** Adds every entity already in the family; later changes arrive through the listener. */
+    public void addAll(ImmutableArray<Entity> existing) {
+        for (int i = 0; i < existing.size(); i++) add(existing.get(i));
+    }
+
+    public void add(Entity entity) {
+        if (slotOf.containsKey(entity)) return;
+        if (size == entities.length) grow(Math.max(16, size * 2));
+        entities[size] = entity;
+        slotOf.put(entity, size);
+        loadSlot(size);
+        size++;
+    }
+
+    /** Moves the last slot into the freed one; only that entity's slot changes. */
+    public void remove(Entity entity) {
+        int slot = slotOf.remove(entity, -1);
+        if (slot < 0) return;
+        int last = --size;
+        if (slot != last) {
+            Entity moved = entities[last];
+            entities[slot] = moved;
+            x[slot] = x[last];
+            y[slot] = y[last];
+            vx[slot] = vx[last];
+            vy[slot] = vy[last];
+            slotOf.put(moved, slot);
+        }
+        entities[last] = null;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) entities[i] = null;
+        slotOf.clear();
+        size = 0;
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        add(entity);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        remove(entity);
+    }
+
+    /** Copies position and velocity from the components into the arrays. */
+    public void load() {
+        for (int i = 0; i < size; i++) loadSlot(i);
+    }
+
+    /** Advances every position by its velocity. */
+    public void integrate(float deltaTime) {
+        float[] x = this.x, y = this.y, vx = this.vx, vy = this.vy;
+        for (int i = 0, n = size; i < n; i++) {
+            x[i] += vx[i] * deltaTime;
+            y[i] += vy[i] * deltaTime;
+        }
+    }
+
+    /** Writes the packed positions back to the components. */
+    public void storePositions() {
+        for (int i = 0; i < size; i++) {
+            PositionComponent pos = pm.get(entities[i]);
+            pos.position.x = x[i];
+            pos.position.y = y[i];
+        }
+    }
+
+    public int size() { return size; }
+
+    /** Slot of the entity, or -1 if it isn't stored. Valid until the next remove. */
+    public int slotOf(Entity entity) { return slotOf.get(entity, -1); }
+
+    public Entity entityAt(int slot) { return entities[slot]; }
+
+    // Direct array access for packed readers; only the first size() entries are live
+    public float[] getX() { return x; }
+    public float[] getY() { return y; }
+    public float[] getVelocityX() { return vx; }
+    public float[] getVelocityY() { return vy; }
+
+    private void loadSlot(int slot) {
+        Entity entity = entities[slot];
+        PositionComponent pos = pm.get(entity);
+        VelocityComponent vel = vm.get(entity);
+        x[slot] = pos.position.x;
+        y[slot] = pos.position.y;
+        vx[slot] = vel.velocity.x;
+        vy[slot] = vel.velocity.y;
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+    }
+}
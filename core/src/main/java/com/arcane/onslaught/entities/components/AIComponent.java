@@ -2,10 +2,21 @@ package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
-public class AIComponent implements Component {
+public class AIComponent implements Component, Pool.Poolable {
     public enum AIType { CHASE_PLAYER, WANDER, STATIONARY }
 
     public AIType type = AIType.CHASE_PLAYER;
     public Vector2 targetPosition = new Vector2();
+
+    // Stagger slot for level-of-detail ticking, assigned by AISystem when the entity is added
+    public int lodBucket = 0;
+
+    @Override
+    public void reset() {
+        type = AIType.CHASE_PLAYER;
+        targetPosition.setZero();
+        lodBucket = 0;
+    }
 }
@@ -1,10 +1,12 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Pool;
 import java.util.ArrayList;
 import java.util.List;
 
-public class BossComponent implements Component {
+public class BossComponent implements Component, Pool.Poolable {
     public String name;
     public String title;
 
@@ -24,6 +26,9 @@ public class BossComponent implements Component {
     public boolean isEnraged = false;
     public float enrageTimer = 0f;
 
+    // Reused by the telegraph flash so it doesn't allocate a Color every frame
+    public final Color flashColor = new Color();
+
     public List<BossSkill> availableSkills = new ArrayList<>();
 
     public enum BossSkill {
@@ -40,8 +45,31 @@ public class BossComponent implements Component {
         BERSERK
     }
 
+    public BossComponent() {}
+
     public BossComponent(String name, String title) {
+        init(name, title);
+    }
+
+    public BossComponent init(String name, String title) {
         this.name = name;
         this.title = title;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        name = null;
+        title = null;
+        skillTimer = 0f;
+        skillCooldown = 4.0f;
+        isTelegraphing = false;
+        telegraphTimer = 0f;
+        nextSkill = null;
+        isCasting = false;
+        castTimer = 0f;
+        isEnraged = false;
+        enrageTimer = 0f;
+        availableSkills.clear();
     }
 }
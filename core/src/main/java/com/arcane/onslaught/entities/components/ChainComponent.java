@@ -1,23 +1,39 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Makes projectile chain to nearby enemies
  */
-public class ChainComponent implements Component {
+public class ChainComponent implements Component, Pool.Poolable {
     public int remainingChains;
     public float chainRange;
     public float chainDamage;
-    public java.util.Set<com.badlogic.ashley.core.Entity> hitEntities;
+    public java.util.Set<com.badlogic.ashley.core.Entity> hitEntities = new java.util.HashSet<>();
     public int maxChains;
 
+    public ChainComponent() {}
+
     public ChainComponent(int chains, float range, float damage) {
+        init(chains, range, damage);
+    }
+
+    public ChainComponent init(int chains, float range, float damage) {
         this.maxChains = chains;
         this.remainingChains = chains;
         this.chainRange = range;
         this.chainDamage = damage;
-        this.hitEntities = new java.util.HashSet<>();
+        this.hitEntities.clear();
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        remainingChains = 0;
+        chainRange = 0;
+        chainDamage = 0;
+        maxChains = 0;
+        hitEntities.clear();
     }
 }
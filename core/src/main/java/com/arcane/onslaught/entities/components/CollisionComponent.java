@@ -1,15 +1,30 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 
-public class CollisionComponent implements Component {
+public class CollisionComponent implements Component, Pool.Poolable {
     public float radius;
     public short categoryBits;
     public short maskBits;
 
+    public CollisionComponent() {}
+
     public CollisionComponent(float radius, short categoryBits, short maskBits) {
+        init(radius, categoryBits, maskBits);
+    }
+
+    public CollisionComponent init(float radius, short categoryBits, short maskBits) {
         this.radius = radius;
         this.categoryBits = categoryBits;
         this.maskBits = maskBits;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        radius = 0;
+        categoryBits = 0;
+        maskBits = 0;
     }
 }
@@ -1,8 +1,9 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 
-public class EnemyComponent implements Component {
+public class EnemyComponent implements Component, Pool.Poolable {
     public String enemyType = "basic";
     public float damage = 10f; // NEW: Default damage
     public float xpDropped = 5f;
@@ -12,7 +13,19 @@ public class EnemyComponent implements Component {
 
     // Constructor for Spawning
     public EnemyComponent(float damage, float xpDropped) {
+        init(damage, xpDropped);
+    }
+
+    public EnemyComponent init(float damage, float xpDropped) {
         this.damage = damage;
         this.xpDropped = xpDropped;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        enemyType = "basic";
+        damage = 10f;
+        xpDropped = 5f;
     }
 }
@@ -1,11 +1,24 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 
-public class EnemyProjectileComponent implements Component {
+public class EnemyProjectileComponent implements Component, Pool.Poolable {
     public float damage;
 
+    public EnemyProjectileComponent() {}
+
     public EnemyProjectileComponent(float damage) {
+        init(damage);
+    }
+
+    public EnemyProjectileComponent init(float damage) {
         this.damage = damage;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        damage = 0;
     }
 }
@@ -2,16 +2,30 @@ package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Makes projectile explode on impact, damaging nearby enemies
  */
-public class ExplosiveComponent implements Component {
+public class ExplosiveComponent implements Component, Pool.Poolable {
     public float explosionRadius;
     public float explosionDamage;
 
+    public ExplosiveComponent() {}
+
     public ExplosiveComponent(float radius, float damage) {
+        init(radius, damage);
+    }
+
+    public ExplosiveComponent init(float radius, float damage) {
         this.explosionRadius = radius;
         this.explosionDamage = damage;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        explosionRadius = 0;
+        explosionDamage = 0;
     }
 }
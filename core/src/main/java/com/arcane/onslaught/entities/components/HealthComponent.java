@@ -2,8 +2,9 @@ package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Pool;
 
-public class HealthComponent implements Component {
+public class HealthComponent implements Component, Pool.Poolable {
     public float currentHealth;
     public float maxHealth;
 
@@ -11,9 +12,16 @@ public class HealthComponent implements Component {
     public float hitFlashTimer = 0f;
     // ------------------------------
 
+    public HealthComponent() {}
+
     public HealthComponent(float maxHealth) {
+        init(maxHealth);
+    }
+
+    public HealthComponent init(float maxHealth) {
         this.maxHealth = maxHealth;
         this.currentHealth = maxHealth;
+        return this;
     }
 
     public boolean isAlive() {
@@ -46,4 +54,11 @@ public class HealthComponent implements Component {
     public void heal(float amount) {
         currentHealth = Math.min(maxHealth, currentHealth + amount);
     }
+
+    @Override
+    public void reset() {
+        currentHealth = 0;
+        maxHealth = 0;
+        hitFlashTimer = 0f;
+    }
 }
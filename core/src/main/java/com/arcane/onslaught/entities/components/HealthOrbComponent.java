@@ -2,14 +2,27 @@ package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Health orb that heals the player
  */
-public class HealthOrbComponent implements Component {
+public class HealthOrbComponent implements Component, Pool.Poolable {
     public float healAmount;
 
+    public HealthOrbComponent() {}
+
     public HealthOrbComponent(float healAmount) {
+        init(healAmount);
+    }
+
+    public HealthOrbComponent init(float healAmount) {
         this.healAmount = healAmount;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        healAmount = 0;
     }
 }
@@ -1,13 +1,27 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 
-public class LifetimeComponent implements Component {
+public class LifetimeComponent implements Component, Pool.Poolable {
     public float timer = 0f;
     public float duration;
 
+    public LifetimeComponent() {}
+
     public LifetimeComponent(float duration) {
+        init(duration);
+    }
+
+    public LifetimeComponent init(float duration) {
         this.duration = duration;
         this.timer = 0f;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        timer = 0f;
+        duration = 0;
     }
 }
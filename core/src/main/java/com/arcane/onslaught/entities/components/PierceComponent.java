@@ -2,16 +2,30 @@ package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Makes projectile pierce through enemies
  */
-public class PierceComponent implements Component {
+public class PierceComponent implements Component, Pool.Poolable {
     public int remainingPierces;
     public int maxPierces;
 
+    public PierceComponent() {}
+
     public PierceComponent(int maxPierces) {
+        init(maxPierces);
+    }
+
+    public PierceComponent init(int maxPierces) {
         this.maxPierces = maxPierces;
         this.remainingPierces = maxPierces;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        remainingPierces = 0;
+        maxPierces = 0;
     }
 }
@@ -1,17 +1,31 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Definition of Poison effect (Applied to Projectile)
  */
-public class PoisonComponent implements Component {
+public class PoisonComponent implements Component, Pool.Poolable {
     public float damagePerSecond;
     public float duration;
 
+    public PoisonComponent() {}
+
     public PoisonComponent(float dps, float duration) {
+        init(dps, duration);
+    }
+
+    public PoisonComponent init(float dps, float duration) {
         this.damagePerSecond = dps;
         this.duration = duration;
         // Removed timeRemaining - the projectile doesn't need to track this!
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        damagePerSecond = 0;
+        duration = 0;
     }
 }
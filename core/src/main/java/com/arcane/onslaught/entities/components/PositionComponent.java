@@ -2,13 +2,37 @@ package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
-public class PositionComponent implements Component {
+public class PositionComponent implements Component, Pool.Poolable {
     public Vector2 position = new Vector2();
+    // Position at the start of the current simulation step, for render interpolation
+    public Vector2 previous = new Vector2();
 
     public PositionComponent() {}
 
     public PositionComponent(float x, float y) {
+        init(x, y);
+    }
+
+    public PositionComponent init(float x, float y) {
         position.set(x, y);
+        previous.set(x, y);
+        return this;
+    }
+
+    /**
+     * Discrete move (teleport, knockback): previous snaps along, so swept collision and render
+     * interpolation don't treat the jump as travel.
+     */
+    public void teleport(float x, float y) {
+        position.set(x, y);
+        previous.set(x, y);
+    }
+
+    @Override
+    public void reset() {
+        position.setZero();
+        previous.setZero();
     }
 }
@@ -1,16 +1,32 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 
-public class ProjectileComponent implements Component {
+public class ProjectileComponent implements Component, Pool.Poolable {
     public float damage;
     public float lifetime;
     public float timeAlive = 0;
     public String spellType;
 
+    public ProjectileComponent() {}
+
     public ProjectileComponent(float damage, float lifetime, String spellType) {
+        init(damage, lifetime, spellType);
+    }
+
+    public ProjectileComponent init(float damage, float lifetime, String spellType) {
         this.damage = damage;
         this.lifetime = lifetime;
         this.spellType = spellType;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        damage = 0;
+        lifetime = 0;
+        timeAlive = 0;
+        spellType = null;
     }
 }
@@ -1,11 +1,24 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 
-public class RotationComponent implements Component {
+public class RotationComponent implements Component, Pool.Poolable {
     public float degreesPerSecond;
 
+    public RotationComponent() {}
+
     public RotationComponent(float degreesPerSecond) {
+        init(degreesPerSecond);
+    }
+
+    public RotationComponent init(float degreesPerSecond) {
         this.degreesPerSecond = degreesPerSecond;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        degreesPerSecond = 0;
     }
 }
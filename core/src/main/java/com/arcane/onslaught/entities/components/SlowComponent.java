@@ -2,16 +2,30 @@ package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Slows enemies on hit
  */
-public class SlowComponent implements Component {
+public class SlowComponent implements Component, Pool.Poolable {
     public float slowAmount; // 0.0 to 1.0 (0.5 = 50% slow)
     public float slowDuration;
 
+    public SlowComponent() {}
+
     public SlowComponent(float amount, float duration) {
+        init(amount, duration);
+    }
+
+    public SlowComponent init(float amount, float duration) {
         this.slowAmount = amount;
         this.slowDuration = duration;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        slowAmount = 0;
+        slowDuration = 0;
     }
 }
@@ -0,0 +1,35 @@
+package com.arcane.onslaught.entities.components;
+
+/**
+ * Status effects an entity can carry, one slot each in StatusEffectsComponent.
+ */
+public enum StatusEffect {
+    /** magnitude = fraction of max speed removed */
+    SLOW(StackRule.REFRESH, 0f, 1),
+    /** magnitude = damage per second */
+    POISON(StackRule.REFRESH, 0.5f, 1),
+    /** magnitude = damage per second, adds up over stacks */
+    BURN(StackRule.STACK, 0.5f, 5),
+    /** Frozen solid; explosions deal double damage (Shatter synergy). magnitude unused */
+    SHATTER(StackRule.REFRESH, 0f, 1);
+
+    public enum StackRule {
+        /** Keep the longer duration and the stronger magnitude */
+        REFRESH,
+        /** Add magnitude up to maxStacks applications; later ones only refresh the duration */
+        STACK
+    }
+
+    public final StackRule stackRule;
+    /** Seconds between damage ticks; 0 for effects that don't tick */
+    public final float tickInterval;
+    public final int maxStacks;
+    public final int bit;
+
+    StatusEffect(StackRule stackRule, float tickInterval, int maxStacks) {
+        this.stackRule = stackRule;
+        this.tickInterval = tickInterval;
+        this.maxStacks = maxStacks;
+        this.bit = 1 << ordinal();
+    }
+}
@@ -0,0 +1,75 @@
+package com.arcane.onslaught.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Fixed status-effect slots, added once at spawn to everything that can be slowed or poisoned.
+ * Applying and expiring effects only touches these arrays, so family membership never changes.
+ * Arrays are indexed by StatusEffect.ordinal(); activeMask has StatusEffect.bit set for live slots.
+ */
+public class StatusEffectsComponent implements Component, Pool.Poolable {
+    public static final int SLOTS = StatusEffect.values().length;
+
+    public int activeMask = 0;
+    public final float[] remaining = new float[SLOTS];
+    public final float[] magnitude = new float[SLOTS];
+    public final float[] tickTimer = new float[SLOTS];
+    public final int[] stacks = new int[SLOTS];
+
+    // Max speed before the current slow, restored when it ends
+    public float baseSpeed;
+
+    public boolean has(StatusEffect effect) {
+        return (activeMask & effect.bit) != 0;
+    }
+
+    public float getMagnitude(StatusEffect effect) {
+        return has(effect) ? magnitude[effect.ordinal()] : 0f;
+    }
+
+    /** Applies or stacks an effect following its StackRule. Returns true if it was not active before. */
+    public boolean apply(StatusEffect effect, float amount, float duration) {
+        int i = effect.ordinal();
+        if (!has(effect)) {
+            activeMask |= effect.bit;
+            remaining[i] = duration;
+            magnitude[i] = amount;
+            tickTimer[i] = 0f;
+            stacks[i] = 1;
+            return true;
+        }
+
+        remaining[i] = Math.max(remaining[i], duration);
+        if (effect.stackRule == StatusEffect.StackRule.STACK) {
+            if (stacks[i] < effect.maxStacks) {
+                stacks[i]++;
+                magnitude[i] += amount;
+            }
+        } else {
+            magnitude[i] = Math.max(magnitude[i], amount);
+        }
+        return false;
+    }
+
+    public void clear(StatusEffect effect) {
+        activeMask &= ~effect.bit;
+        int i = effect.ordinal();
+        remaining[i] = 0f;
+        magnitude[i] = 0f;
+        tickTimer[i] = 0f;
+        stacks[i] = 0;
+    }
+
+    @Override
+    public void reset() {
+        activeMask = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            remaining[i] = 0f;
+            magnitude[i] = 0f;
+            tickTimer[i] = 0f;
+            stacks[i] = 0;
+        }
+        baseSpeed = 0f;
+    }
+}
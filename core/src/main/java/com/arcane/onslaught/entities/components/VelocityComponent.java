@@ -2,14 +2,26 @@ package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
-public class VelocityComponent implements Component {
+public class VelocityComponent implements Component, Pool.Poolable {
     public Vector2 velocity = new Vector2();
     public float maxSpeed = 0;
 
     public VelocityComponent() {}
 
     public VelocityComponent(float maxSpeed) {
+        init(maxSpeed);
+    }
+
+    public VelocityComponent init(float maxSpeed) {
         this.maxSpeed = maxSpeed;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        velocity.setZero();
+        maxSpeed = 0;
     }
 }
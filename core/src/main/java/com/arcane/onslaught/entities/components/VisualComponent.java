@@ -2,12 +2,12 @@ package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
 
-public class VisualComponent implements Component {
+public class VisualComponent implements Component, Pool.Poolable {
     // ... (Existing fields: width, height, color, animation, etc.) ...
     public float width;
     public float height;
@@ -16,7 +16,7 @@ public class VisualComponent implements Component {
     public float stateTime = 0f;
     public boolean isLooping = true;
     public TextureRegion staticRegion;
-    public Texture texture;
+    public TextureRegion region; // Atlas region the sprite draws from
     public Sprite sprite;
     public boolean useSprite = false;
     public int zIndex = 0;
@@ -31,40 +31,104 @@ public class VisualComponent implements Component {
     public float fadeInDuration = 0.5f; // Default 0.5 seconds
     // ----------------------------
 
+    private Sprite spareSprite;
+
+    public VisualComponent() {}
+
     public VisualComponent(float width, float height, Animation<TextureRegion> animation) {
+        init(width, height, animation);
+    }
+
+    public VisualComponent(float width, float height, TextureRegion region) {
+        this(width, height, region, Color.WHITE);
+    }
+
+    public VisualComponent(float width, float height, TextureRegion region, Color tint) {
+        init(width, height, region, tint);
+    }
+
+    public VisualComponent(float width, float height, Color color) {
+        init(width, height, color);
+    }
+
+    public VisualComponent init(float width, float height, Animation<TextureRegion> animation) {
         this.width = width;
         this.height = height;
         this.animation = animation;
         this.stateTime = 0f;
         this.zIndex = 10;
+        return this;
     }
 
-    public VisualComponent(float width, float height, Texture texture) {
-        this(width, height, texture, Color.WHITE);
+    public VisualComponent init(float width, float height, TextureRegion region) {
+        return init(width, height, region, Color.WHITE);
     }
 
-    public VisualComponent(float width, float height, Texture texture, Color tint) {
+    public VisualComponent init(float width, float height, TextureRegion region, Color tint) {
         this.width = width;
         this.height = height;
-        if (texture == null) {
+        if (region == null) {
             this.color = tint != null ? tint : Color.MAGENTA;
             this.useSprite = false;
         } else {
-            this.texture = texture;
-            this.sprite = new Sprite(texture);
+            this.region = region;
+            bindSprite(region);
             this.sprite.setSize(width, height);
             if (tint != null) this.sprite.setColor(tint);
             this.useSprite = true;
             this.color = tint != null ? tint : Color.WHITE;
         }
         this.zIndex = 10;
+        return this;
     }
 
-    public VisualComponent(float width, float height, Color color) {
+    public VisualComponent init(float width, float height, Color color) {
         this.width = width;
         this.height = height;
         this.color = color;
         this.useSprite = false;
         this.zIndex = 10;
+        return this;
+    }
+
+    // Reuses the Sprite kept from a previous life, leaving it exactly as new Sprite(region) would
+    private void bindSprite(TextureRegion region) {
+        if (sprite == null) sprite = spareSprite;
+        if (sprite == null) {
+            sprite = new Sprite(region);
+            return;
+        }
+        int w = region.getRegionWidth();
+        int h = region.getRegionHeight();
+        sprite.setRegion(region);
+        sprite.setColor(1f, 1f, 1f, 1f);
+        sprite.setScale(1f);
+        sprite.setRotation(0f);
+        sprite.setPosition(0f, 0f);
+        sprite.setSize(Math.abs(w), Math.abs(h));
+        sprite.setOrigin(Math.abs(w) / 2f, Math.abs(h) / 2f);
+    }
+
+    @Override
+    public void reset() {
+        width = 0;
+        height = 0;
+        color = Color.WHITE; // Shared constant: reassign, never modify
+        animation = null;
+        stateTime = 0f;
+        isLooping = true;
+        staticRegion = null;
+        region = null;
+        useSprite = false;
+        if (sprite != null) spareSprite = sprite; // Kept for bindSprite(); hidden so checks for sprite == null still work
+        sprite = null;
+        zIndex = 0;
+        isBobbing = false;
+        bobTimer = 0f;
+        bobHeight = 3f;
+        bobSpeed = 12f;
+        isFadingIn = false;
+        fadeInTimer = 0f;
+        fadeInDuration = 0.5f;
     }
 }
@@ -1,11 +1,24 @@
 package com.arcane.onslaught.entities.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 
-public class XPOrbComponent implements Component {
+public class XPOrbComponent implements Component, Pool.Poolable {
     public float xpValue;
 
+    public XPOrbComponent() {}
+
     public XPOrbComponent(float xpValue) {
+        init(xpValue);
+    }
+
+    public XPOrbComponent init(float xpValue) {
         this.xpValue = xpValue;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        xpValue = 0;
     }
 }
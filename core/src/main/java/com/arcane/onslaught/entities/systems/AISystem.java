@@ -5,14 +5,36 @@ import com.arcane.onslaught.entities.components.BossComponent.BossSkill;
 import com.arcane.onslaught.utils.SoundManager;
 import com.arcane.onslaught.utils.TextureManager;
 import com.badlogic.ashley.core.*;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.arcane.onslaught.entities.components.*;
+import com.arcane.onslaught.spatial.FlowField;
+import com.arcane.onslaught.utils.Constants;
+import com.arcane.onslaught.utils.GameRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Enemy steering and boss skills. Chasing enemies head straight for the player by default;
+ * with -Darcane.flowfield=true (or setUseFlowField) they follow a FlowField toward the player,
+ * rebuilt once per step, and drift away from crowded neighbouring cells.
+ *
+ * Level of detail: enemies past lodNearDistance re-steer only every lodMidInterval steps, and
+ * past lodFarDistance every lodFarInterval steps, staggered by AIComponent.lodBucket. In between
+ * they keep their last velocity, which MovementSystem extrapolates. Bosses always run every step.
+ * Disable with -Darcane.ailod=false or setLodEnabled(false).
+ */
+public class AISystem extends ParallelIteratingSystem {
+    public static final String FLOW_FIELD_PROPERTY = "arcane.flowfield";
+    public static final String LOD_PROPERTY = "arcane.ailod";
+    public static final float FLOW_CELL_SIZE = 40f;
+    // Enemies a flow cell holds before they start pushing each other out of it
+    private static final int CELL_CAPACITY = 3;
+    // Separation strength per enemy over capacity, and its cap (above 1 it can beat the pull to the player)
+    private static final float SEPARATION_WEIGHT = 0.25f;
+    private static final float MAX_SEPARATION = 1.5f;
 
-public class AISystem extends IteratingSystem {
     private ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(PositionComponent.class);
     private ComponentMapper<VelocityComponent> vm = ComponentMapper.getFor(VelocityComponent.class);
     private ComponentMapper<AIComponent> am = ComponentMapper.getFor(AIComponent.class);
@@ -22,28 +44,94 @@ public class AISystem extends IteratingSystem {
 
     private Entity playerEntity; // Store player reference
     private EnemyFactory enemyFactory;
+    private EntityRegistry registry;
+    private final GameRandom.RandomStream random = GameRandom.of(GameRandom.Channel.AI);
+
+    // Scratch vector for boss skill math (never stored in components)
+    private final Vector2 tmp = new Vector2();
+
+    private boolean useFlowField = Boolean.getBoolean(FLOW_FIELD_PROPERTY);
+    private final FlowField flowField = new FlowField(Constants.ARENA_OFFSET_X, Constants.ARENA_OFFSET_Y,
+        Constants.ARENA_WIDTH, Constants.ARENA_HEIGHT, FLOW_CELL_SIZE);
+
+    // --- Level of detail ---
+    private boolean lodEnabled = !"false".equals(System.getProperty(LOD_PROPERTY));
+    private float lodNearDistance = 400f;
+    private float lodFarDistance = 700f;
+    private int lodMidInterval = 2;
+    private int lodFarInterval = 4;
+    private float lodNear2, lodFar2;
+    private int tick = 0;
+    private int nextBucket = 0;
+    private final LongAdder lodSkipped = new LongAdder();
+    private int lastUpdated = 0;
+    private int lastSkipped = 0;
+
+    // Spreads enemies over the stagger buckets in the order they are added
+    private final EntityListener bucketAssigner = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            am.get(entity).lodBucket = nextBucket++ & 0xffff;
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {}
+    };
 
     public AISystem(EnemyFactory factory) {
         super(Family.all(AIComponent.class, PositionComponent.class, VelocityComponent.class).get());
         this.enemyFactory = factory;
     }
 
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        registry = EntityRegistry.of(engine);
+        engine.addEntityListener(getFamily(), bucketAssigner);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(bucketAssigner);
+        super.removedFromEngine(engine);
+    }
+
     @Override
     public void update(float deltaTime) {
-        // Cache player entity
-        Family playerFamily = Family.all(PlayerComponent.class, PositionComponent.class).get();
-        ImmutableArray<Entity> players = getEngine().getEntitiesFor(playerFamily);
-        if (players.size() > 0) {
-            playerEntity = players.get(0);
-        } else {
-            playerEntity = null;
-        }
+        playerEntity = registry.getPlayer();
+        if (useFlowField && playerEntity != null) buildFlowField();
+
+        tick++;
+        lodNear2 = lodNearDistance * lodNearDistance;
+        lodFar2 = lodFarDistance * lodFarDistance;
+        lodSkipped.reset();
 
         super.update(deltaTime);
+
+        lastSkipped = lodSkipped.intValue();
+        lastUpdated = getEntities().size() - lastSkipped;
     }
 
+    /** One pass over the enemies for occupancy, one Dijkstra pass over the grid. */
+    private void buildFlowField() {
+        flowField.clearDensity();
+        ImmutableArray<Entity> entities = getEntities();
+        for (int i = 0; i < entities.size(); ++i) {
+            PositionComponent pos = pm.get(entities.get(i));
+            flowField.addOccupant(pos.position.x, pos.position.y);
+        }
+        PositionComponent playerPos = pm.get(playerEntity);
+        flowField.build(playerPos.position.x, playerPos.position.y);
+    }
+
+    /** Bosses spawn minions and move the player, so they stay off the worker threads. */
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
+    protected boolean runsOnMainThread(Entity entity) {
+        return bm.get(entity) != null;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime, CommandBuffer commands) {
         BossComponent boss = bm.get(entity);
 
         if (boss != null) {
@@ -57,12 +145,100 @@ public class AISystem extends IteratingSystem {
             PositionComponent playerPos = pm.get(playerEntity);
 
             if (ai.type == AIComponent.AIType.CHASE_PLAYER) {
-                Vector2 direction = new Vector2(playerPos.position).sub(pos.position).nor();
-                vel.velocity.set(direction).scl(vel.maxSpeed);
+                if (lodEnabled && skipThisTick(pos, playerPos, vel, ai)) {
+                    lodSkipped.increment();
+                    return;
+                }
+                if (useFlowField) followFlow(pos, playerPos, vel);
+                else chase(pos, playerPos, vel);
+            }
+        }
+    }
+
+    /** True if this enemy's band says it keeps its current velocity this step. */
+    private boolean skipThisTick(PositionComponent pos, PositionComponent playerPos, VelocityComponent vel, AIComponent ai) {
+        // Freshly spawned enemies have no heading yet
+        if (vel.velocity.isZero()) return false;
+        float dx = playerPos.position.x - pos.position.x;
+        float dy = playerPos.position.y - pos.position.y;
+        float dist2 = dx * dx + dy * dy;
+        if (dist2 < lodNear2) return false;
+        int interval = dist2 < lodFar2 ? lodMidInterval : lodFarInterval;
+        return (tick + ai.lodBucket) % interval != 0;
+    }
+
+    /** Points vel at the target at full speed using plain float math (no temporaries). */
+    private void chase(PositionComponent pos, PositionComponent target, VelocityComponent vel) {
+        float dx = target.position.x - pos.position.x;
+        float dy = target.position.y - pos.position.y;
+        float len2 = dx * dx + dy * dy;
+        if (len2 == 0f) {
+            vel.velocity.setZero();
+            return;
+        }
+        float scale = vel.maxSpeed / (float) Math.sqrt(len2);
+        vel.velocity.set(dx * scale, dy * scale);
+    }
+
+    /** Field direction (or straight at the player once close), plus separation, at full speed. */
+    private void followFlow(PositionComponent pos, PositionComponent target, VelocityComponent vel) {
+        int cell = flowField.cellAt(pos.position.x, pos.position.y);
+        float dx, dy;
+        if (flowField.isNearGoal(cell)) {
+            dx = target.position.x - pos.position.x;
+            dy = target.position.y - pos.position.y;
+            float len = (float) Math.sqrt(dx * dx + dy * dy);
+            if (len > 0f) {
+                dx /= len;
+                dy /= len;
             }
+        } else {
+            dx = flowField.getDirX(cell);
+            dy = flowField.getDirY(cell);
         }
+
+        int excess = flowField.getDensity(cell) - CELL_CAPACITY;
+        if (excess > 0) {
+            float strength = Math.min(MAX_SEPARATION, excess * SEPARATION_WEIGHT);
+            dx += flowField.getSeparationX(cell) * strength;
+            dy += flowField.getSeparationY(cell) * strength;
+        }
+
+        float len2 = dx * dx + dy * dy;
+        if (len2 == 0f) {
+            vel.velocity.setZero();
+            return;
+        }
+        float scale = vel.maxSpeed / (float) Math.sqrt(len2);
+        vel.velocity.set(dx * scale, dy * scale);
+    }
+
+    // --- Level-of-detail settings and stats ---
+    public void setLodEnabled(boolean value) { lodEnabled = value; }
+    public boolean isLodEnabled() { return lodEnabled; }
+
+    /** Distances from the player where the mid and far bands start. */
+    public void setLodBands(float nearDistance, float farDistance) {
+        lodNearDistance = nearDistance;
+        lodFarDistance = Math.max(nearDistance, farDistance);
     }
 
+    /** Steps between AI updates in the mid and far bands (1 = every step). */
+    public void setLodIntervals(int midInterval, int farInterval) {
+        lodMidInterval = Math.max(1, midInterval);
+        lodFarInterval = Math.max(1, farInterval);
+    }
+
+    /** Entities the last update processed (bosses and every non-skipped enemy). */
+    public int getLastUpdatedCount() { return lastUpdated; }
+
+    /** Enemy AI updates skipped by level of detail in the last update. */
+    public int getLastSkippedCount() { return lastSkipped; }
+
+    public void setUseFlowField(boolean value) { useFlowField = value; }
+    public boolean isUsingFlowField() { return useFlowField; }
+    public FlowField getFlowField() { return flowField; }
+
     private void processBossBehavior(Entity entity, BossComponent boss, float deltaTime) {
         if (playerEntity == null) return;
 
@@ -92,9 +268,9 @@ public class AISystem extends IteratingSystem {
             // Gravity Well Logic (Pull Player)
             if (boss.nextSkill == BossSkill.GRAVITY_WELL && playerEntity != null) {
                 PositionComponent pPos = pm.get(playerEntity);
-                Vector2 pullDir = new Vector2(pos.position).sub(pPos.position).nor();
+                tmp.set(pos.position).sub(pPos.position).nor();
                 // Move player towards boss
-                pPos.position.add(pullDir.scl(300f * deltaTime));
+                pPos.position.mulAdd(tmp, 300f * deltaTime);
             }
 
             vel.velocity.setZero();
@@ -114,12 +290,13 @@ public class AISystem extends IteratingSystem {
             float flashSpeed = 15f;
             float alpha = (MathUtils.sin(boss.telegraphTimer * flashSpeed) + 1) / 2f;
 
+            // Written into the boss's own Color; vis.color may point at a shared constant
             if (boss.nextSkill == BossSkill.SHOCKWAVE || boss.nextSkill == BossSkill.BERSERK) {
-                vis.color = new Color(1f, alpha, 0f, 1f); // Orange Flash
+                vis.color = boss.flashColor.set(1f, alpha, 0f, 1f); // Orange Flash
             } else if (boss.nextSkill == BossSkill.GRAVITY_WELL) {
-                vis.color = new Color(0.1f, 0.1f, 0.1f, alpha); // Dark Flash
+                vis.color = boss.flashColor.set(0.1f, 0.1f, 0.1f, alpha); // Dark Flash
             } else {
-                vis.color = new Color(1f, 1f, alpha, 1f); // Standard Flash
+                vis.color = boss.flashColor.set(1f, 1f, alpha, 1f); // Standard Flash
             }
 
             if (boss.telegraphTimer <= 0) {
@@ -134,11 +311,10 @@ public class AISystem extends IteratingSystem {
         // --- STATE 3: COOLDOWN / CHASE ---
         if (boss.skillTimer > 0) boss.skillTimer -= deltaTime;
 
-        Vector2 direction = new Vector2(playerPos.position).sub(pos.position).nor();
-        vel.velocity.set(direction).scl(vel.maxSpeed);
+        chase(pos, playerPos, vel);
 
         if (boss.skillTimer <= 0 && !boss.availableSkills.isEmpty()) {
-            BossSkill skill = boss.availableSkills.get(MathUtils.random(boss.availableSkills.size() - 1));
+            BossSkill skill = boss.availableSkills.get(random.random(boss.availableSkills.size() - 1));
             boss.nextSkill = skill;
             boss.isTelegraphing = true;
 
@@ -167,8 +343,8 @@ public class AISystem extends IteratingSystem {
                     SoundManager.getInstance().play("explosion", 1.0f);
 
                     // Knockback
-                    Vector2 knockback = new Vector2(playerPosVec).sub(bossPos).nor().scl(200f);
-                    playerPosVec.add(knockback);
+                    tmp.set(playerPosVec).sub(bossPos).nor();
+                    playerPosComp.teleport(playerPosVec.x + tmp.x * 200f, playerPosVec.y + tmp.y * 200f);
                 }
                 boss.isCasting = true;
                 boss.castTimer = 0.5f;
@@ -198,17 +374,14 @@ public class AISystem extends IteratingSystem {
 
             case DASH_ATTACK:
                 VelocityComponent v = vm.get(bossEntity);
-                Vector2 dashDir = new Vector2(playerPosVec).sub(bossPos).nor();
-                v.velocity.set(dashDir).scl(v.maxSpeed * 4f);
+                v.velocity.set(playerPosVec).sub(bossPos).nor().scl(v.maxSpeed * 4f);
                 boss.isCasting = true;
                 boss.castTimer = 0.5f;
                 break;
 
             case TELEPORT_AMBUSH:
-                Vector2 offset = new Vector2(MathUtils.random(-100, 100), MathUtils.random(-100, 100));
-                Vector2 telePos = new Vector2(playerPosVec).add(offset);
                 PositionComponent pmPos = pm.get(bossEntity);
-                pmPos.position.set(telePos);
+                pmPos.teleport(playerPosVec.x + random.random(-100, 100), playerPosVec.y + random.random(-100, 100));
                 SoundManager.getInstance().play("teleport", 1.0f);
                 break;
 
@@ -222,7 +395,7 @@ public class AISystem extends IteratingSystem {
                 break;
 
             case FIRE_FLAMETHROWER:
-                float baseAngle = new Vector2(playerPosVec).sub(bossPos).angleDeg();
+                float baseAngle = tmp.set(playerPosVec).sub(bossPos).angleDeg();
                 for (int i = -10; i <= 10; i++) {
                     spawnBossProjectile(bossPos, baseAngle + (i * 10), "fireball", Color.ORANGE);
                 }
@@ -231,18 +404,18 @@ public class AISystem extends IteratingSystem {
                 break;
 
             case FROST_BREATH:
-                float frostAngle = new Vector2(playerPosVec).sub(bossPos).angleDeg();
+                float frostAngle = tmp.set(playerPosVec).sub(bossPos).angleDeg();
                 for (int i = -5; i <= 5; i++) {
                     Entity proj = spawnBossProjectile(bossPos, frostAngle + (i * 8), "ice_shard", Color.CYAN);
-                    proj.add(new SlowComponent(1.5f, 2.0f));
+                    proj.add(getEngine().createComponent(SlowComponent.class).init(1.5f, 2.0f));
                 }
                 boss.isCasting = true;
                 boss.castTimer = 0.5f;
                 break;
 
             case POISON_SPIT:
-                Entity proj = spawnBossProjectile(bossPos, new Vector2(playerPosVec).sub(bossPos).angleDeg(), "poison", Color.GREEN);
-                proj.add(new PoisonComponent(10f, 5.0f));
+                Entity proj = spawnBossProjectile(bossPos, tmp.set(playerPosVec).sub(bossPos).angleDeg(), "poison", Color.GREEN);
+                proj.add(getEngine().createComponent(PoisonComponent.class).init(10f, 5.0f));
                 boss.isCasting = true;
                 boss.castTimer = 0.2f;
                 break;
@@ -258,22 +431,21 @@ public class AISystem extends IteratingSystem {
     }
 
     private Entity spawnBossProjectile(Vector2 startPos, float angleDeg, String textureName, Color tint) {
-        Entity proj = new Entity();
-        proj.add(new PositionComponent(startPos.x, startPos.y));
-        Vector2 dir = new Vector2(1, 0).setAngleDeg(angleDeg);
-        VelocityComponent vel = new VelocityComponent(300f);
-        vel.velocity.set(dir).scl(300f);
+        Entity proj = getEngine().createEntity();
+        proj.add(getEngine().createComponent(PositionComponent.class).init(startPos.x, startPos.y));
+        VelocityComponent vel = getEngine().createComponent(VelocityComponent.class).init(300f);
+        vel.velocity.set(300f, 0f).setAngleDeg(angleDeg);
         proj.add(vel);
         TextureManager tm = TextureManager.getInstance();
         if (tm.hasTexture(textureName)) {
-            proj.add(new VisualComponent(20f, 20f, tm.getTexture(textureName)));
+            proj.add(getEngine().createComponent(VisualComponent.class).init(20f, 20f, tm.getRegion(textureName)));
         } else {
-            VisualComponent vis = new VisualComponent(20f, 20f, tint);
+            VisualComponent vis = getEngine().createComponent(VisualComponent.class).init(20f, 20f, tint);
             proj.add(vis);
         }
-        proj.add(new EnemyProjectileComponent(15f));
-        proj.add(new LifetimeComponent(4.0f));
-        proj.add(new CollisionComponent(10f, (short)0, (short)0));
+        proj.add(getEngine().createComponent(EnemyProjectileComponent.class).init(15f));
+        proj.add(getEngine().createComponent(LifetimeComponent.class).init(4.0f));
+        proj.add(getEngine().createComponent(CollisionComponent.class).init(10f, (short)0, (short)0));
         getEngine().addEntity(proj);
         return proj;
     }
@@ -6,13 +6,27 @@ import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.Pool;
 import com.arcane.onslaught.entities.components.*;
 import com.arcane.onslaught.events.*;
 import com.arcane.onslaught.utils.*;
-import java.util.ArrayList;
-import java.util.List;
+import com.arcane.onslaught.spatial.SpatialHashGrid;
+import com.arcane.onslaught.spatial.Sweep;
+import com.arcane.onslaught.utils.GameRandom;
 
 public class CollisionSystem extends EntitySystem {
+    /** Bit in Entity.flags marking an entity already queued for removal this frame. */
+    public static final int FLAG_PENDING_REMOVAL = 1;
+
+    // Chain reactions resolved within one frame; anything left waits for the next frame
+    private static final int MAX_EXPLOSION_PASSES = 4;
+
+    // Swept tests query the enemy grid at current positions; enemies moved up to this far during
+    // the step (dashing bosses included), so the query reaches that much further
+    private static final float ENEMY_STEP_SLACK = 16f;
+
     private ComponentMapper<PositionComponent> posMapper;
     private ComponentMapper<VisualComponent> visMapper;
     private ComponentMapper<HealthComponent> healthMapper;
@@ -29,32 +43,88 @@ public class CollisionSystem extends EntitySystem {
     private ComponentMapper<HealthOrbComponent> healthOrbMapper;
     private ComponentMapper<CriticalComponent> critMapper;
     private ComponentMapper<CollisionComponent> colMapper;
-    private ComponentMapper<SlowedComponent> slowedMapper;
+    private ComponentMapper<StatusEffectsComponent> statusMapper;
     // --- NEW: Mapper for Enemy Projectiles ---
     private ComponentMapper<EnemyProjectileComponent> enemyProjMapper;
 
     private Entity player;
     private PlayerBuild playerBuild;
-    private java.util.Random random;
+    private final GameRandom.RandomStream random = GameRandom.of(GameRandom.Channel.COMBAT);
+    private final EventManager events = EventManager.getInstance();
 
+    // Removal order stays the queue order; the flag bit gives O(1) membership checks
     private Array<Entity> entitiesToRemove;
-    private List<ExplosionRequest> explosionQueue;
+    private Array<ExplosionRequest> explosionQueue;
+    private Array<ExplosionRequest> explosionBatch;
+
+    private EntityRegistry registry;
+
+    // Broadphase: enemy grid rebuilt each frame by SpatialIndexSystem
+    private SpatialIndexSystem spatialIndex;
+    private SpatialHashGrid enemyGrid;
+    private FloatingTextSystem floatingText;
+    private ParticleSystem particles;
+    private StatusEffectSystem statusEffects;
+    private final Array<Entity> nearbyEnemies = new Array<>(false, 32);
+    private final Array<Entity> blastTargets = new Array<>(false, 32);
+    private final Array<Entity> nearbyPickups = new Array<>(false, 32);
+    // Swept projectile hits for one projectile, kept sorted by time of impact
+    private final Array<Entity> sweptHits = new Array<>(true, 16);
+    private final FloatArray sweptTimes = new FloatArray(true, 16);
+    // XP orbs spawned this step; not in the pickup grid until the next rebuild
+    private final Array<Entity> newXPOrbs = new Array<>(false, 32);
+    private final ChainTargetFilter chainFilter = new ChainTargetFilter();
+    private ImmutableArray<Entity> chainProjectiles;
+    // Enemies are pooled: forget removed ones so a reused entity can still be chained to
+    private final EntityListener chainHitCleaner = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {}
+
+        @Override
+        public void entityRemoved(Entity enemy) {
+            for (int i = 0; i < chainProjectiles.size(); i++) {
+                chainMapper.get(chainProjectiles.get(i)).hitEntities.remove(enemy);
+            }
+        }
+    };
+    private final SpatialHashGrid.Filter xpOrbFilter = orb -> !isPendingRemoval(orb) && xpMapper.get(orb) != null;
+
+    // Per-batch blast damage, summed per enemy; the array keeps hit order deterministic
+    private final ObjectFloatMap<Entity> blastDamage = new ObjectFloatMap<>();
+    private final Array<Entity> blastHits = new Array<>(false, 64);
 
-    private static class ExplosionRequest {
-        Vector2 position;
+    private static class ExplosionRequest implements Pool.Poolable {
+        final Vector2 position = new Vector2();
         float radius;
         float damage;
-        public ExplosionRequest(Vector2 pos, float r, float d) {
-            this.position = new Vector2(pos);
+
+        ExplosionRequest init(Vector2 pos, float r, float d) {
+            this.position.set(pos);
             this.radius = r;
             this.damage = d;
+            return this;
+        }
+
+        @Override
+        public void reset() {
+            position.setZero();
+            radius = 0;
+            damage = 0;
         }
     }
 
+    private final Pool<ExplosionRequest> explosionPool = new Pool<ExplosionRequest>() {
+        @Override
+        protected ExplosionRequest newObject() {
+            return new ExplosionRequest();
+        }
+    };
+
     public CollisionSystem(PlayerBuild playerBuild) {
         this.playerBuild = playerBuild;
         this.entitiesToRemove = new Array<>();
-        this.explosionQueue = new ArrayList<>();
+        this.explosionQueue = new Array<>(false, 32);
+        this.explosionBatch = new Array<>(false, 32);
 
         posMapper = ComponentMapper.getFor(PositionComponent.class);
         visMapper = ComponentMapper.getFor(VisualComponent.class);
@@ -72,11 +142,23 @@ public class CollisionSystem extends EntitySystem {
         healthOrbMapper = ComponentMapper.getFor(HealthOrbComponent.class);
         critMapper = ComponentMapper.getFor(CriticalComponent.class);
         colMapper = ComponentMapper.getFor(CollisionComponent.class);
-        slowedMapper = ComponentMapper.getFor(SlowedComponent.class);
+        statusMapper = ComponentMapper.getFor(StatusEffectsComponent.class);
         // --- Initialize New Mapper ---
         enemyProjMapper = ComponentMapper.getFor(EnemyProjectileComponent.class);
 
-        random = new java.util.Random();
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        registry = EntityRegistry.of(engine);
+        spatialIndex = engine.getSystem(SpatialIndexSystem.class);
+        chainProjectiles = engine.getEntitiesFor(Family.all(ChainComponent.class).get());
+        engine.addEntityListener(Family.all(EnemyComponent.class).get(), chainHitCleaner);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(chainHitCleaner);
     }
 
     private float getEntityRadius(Entity entity) {
@@ -89,12 +171,17 @@ public class CollisionSystem extends EntitySystem {
 
     @Override
     public void update(float deltaTime) {
-        entitiesToRemove.clear();
-        explosionQueue.clear();
+        clearPendingRemovals();
 
         findPlayer();
         if (player == null) return;
 
+        if (spatialIndex == null) spatialIndex = getEngine().getSystem(SpatialIndexSystem.class);
+        enemyGrid = spatialIndex.getEnemyGrid();
+        if (floatingText == null) floatingText = getEngine().getSystem(FloatingTextSystem.class);
+        if (particles == null) particles = getEngine().getSystem(ParticleSystem.class);
+        if (statusEffects == null) statusEffects = getEngine().getSystem(StatusEffectSystem.class);
+
         HealthComponent playerHealth = healthMapper.get(player);
         if (playerHealth != null && !playerHealth.isAlive()) {
             return;
@@ -105,113 +192,194 @@ public class CollisionSystem extends EntitySystem {
         // --- NEW: Check Boss/Enemy Projectiles ---
         checkEnemyProjectileCollisions();
         // -----------------------------------------
-        checkPlayerXPCollisions();
-        checkPlayerHealthCollisions();
+        newXPOrbs.clear();
+        checkPlayerPickups(deltaTime);
         removeDeadEnemies();
 
         processExplosions();
 
-        for (Entity entity : entitiesToRemove) {
+        for (int i = 0; i < entitiesToRemove.size; ++i) {
+            Entity entity = entitiesToRemove.get(i);
+            entity.flags &= ~FLAG_PENDING_REMOVAL;
             getEngine().removeEntity(entity);
         }
+        entitiesToRemove.clear();
+    }
+
+    private void clearPendingRemovals() {
+        for (int i = 0; i < entitiesToRemove.size; ++i) {
+            entitiesToRemove.get(i).flags &= ~FLAG_PENDING_REMOVAL;
+        }
+        entitiesToRemove.clear();
+    }
+
+    private static boolean isPendingRemoval(Entity entity) {
+        return (entity.flags & FLAG_PENDING_REMOVAL) != 0;
     }
 
     private void queueRemoval(Entity entity) {
-        if (!entitiesToRemove.contains(entity, true)) entitiesToRemove.add(entity);
+        if (isPendingRemoval(entity)) return;
+        entity.flags |= FLAG_PENDING_REMOVAL;
+        entitiesToRemove.add(entity);
     }
 
     private void findPlayer() {
-        player = null;
-        Family playerFamily = Family.all(PlayerComponent.class, PositionComponent.class).get();
-        ImmutableArray<Entity> players = getEngine().getEntitiesFor(playerFamily);
-        if (players.size() > 0) {
-            player = players.get(0);
-        }
+        player = registry.getPlayer();
     }
 
     // ... (Explosion methods unchanged) ...
     private void queueExplosion(Vector2 position, ExplosiveComponent explosive) {
-        explosionQueue.add(new ExplosionRequest(position, explosive.explosionRadius, explosive.explosionDamage));
+        queueExplosion(position, explosive.explosionRadius, explosive.explosionDamage);
     }
 
+    /**
+     * Blasts with the same centre and radius are merged by summing their damage; the
+     * falloff multiplier is identical for both, so every enemy takes exactly what the
+     * separate blasts would have dealt.
+     */
+    private void queueExplosion(Vector2 position, float radius, float damage) {
+        for (int i = 0; i < explosionQueue.size; ++i) {
+            ExplosionRequest queued = explosionQueue.get(i);
+            if (queued.radius == radius && queued.position.equals(position)) {
+                queued.damage += damage;
+                return;
+            }
+        }
+        explosionQueue.add(explosionPool.obtain().init(position, radius, damage));
+    }
+
+    /**
+     * Resolves queued explosions in passes. Each pass takes the whole queue as one batch,
+     * gathers blast damage per enemy from grid queries, applies it once, then handles the
+     * enemies it killed - whose death explosions form the next pass. After
+     * MAX_EXPLOSION_PASSES the rest of the chain stays queued for the next frame.
+     */
     private void processExplosions() {
-        if (explosionQueue.isEmpty()) return;
+        for (int pass = 0; pass < MAX_EXPLOSION_PASSES && explosionQueue.size > 0; ++pass) {
+            Array<ExplosionRequest> batch = explosionQueue;
+            explosionQueue = explosionBatch;
+            explosionBatch = batch;
 
-        Family enemyFamily = Family.all(EnemyComponent.class, PositionComponent.class, HealthComponent.class).get();
-        ImmutableArray<Entity> enemies = getEngine().getEntitiesFor(enemyFamily);
+            resolveExplosionBatch(batch);
 
-        for (ExplosionRequest req : explosionQueue) {
-            spawnExplosionVisual(req.position, req.radius);
+            explosionPool.freeAll(batch);
+            batch.clear();
+        }
+    }
 
-            for (int i = 0; i < enemies.size(); ++i) {
-                Entity enemy = enemies.get(i);
-                if (entitiesToRemove.contains(enemy, true)) continue;
+    private void resolveExplosionBatch(Array<ExplosionRequest> batch) {
+        for (int r = 0; r < batch.size; ++r) {
+            ExplosionRequest req = batch.get(r);
+            spawnExplosionVisual(req.position, req.radius);
 
-                PositionComponent enemyPos = posMapper.get(enemy);
-                HealthComponent enemyHealth = healthMapper.get(enemy);
-                if (!enemyHealth.isAlive()) continue;
+            enemyGrid.query(req.position.x, req.position.y, req.radius, blastTargets);
+            for (int i = 0; i < blastTargets.size; ++i) {
+                Entity enemy = blastTargets.get(i);
+                if (isPendingRemoval(enemy)) continue;
+                if (!healthMapper.get(enemy).isAlive()) continue;
 
                 float enemyRadius = getEntityRadius(enemy);
-                float distance = req.position.dst(enemyPos.position) - enemyRadius;
+                float distance = req.position.dst(posMapper.get(enemy).position) - enemyRadius;
 
                 if (distance <= req.radius) {
                     float falloff = 1f - (Math.max(0, distance) / req.radius);
                     float damageMultiplier = 0.3f + (0.7f * falloff);
-                    float finalDamage = req.damage * damageMultiplier;
-
-                    if (playerBuild.hasTag("shatter")) {
-                        SlowedComponent slowed = slowedMapper.get(enemy);
-                        if (slowed != null && slowed.slowAmount > 0.5f) {
-                            spawnVisualEffect(enemyPos.position, "vfx_ice_shatter", 60f, 0.4f);
-                            finalDamage *= 2.0f;
-                        }
-                    }
-
-                    enemyHealth.damage(finalDamage);
-                    spawnDamageIndicator(enemyPos.position, finalDamage, false);
+                    if (!blastDamage.containsKey(enemy)) blastHits.add(enemy);
+                    blastDamage.getAndIncrement(enemy, 0f, req.damage * damageMultiplier);
+                }
+            }
+        }
+        SoundManager.getInstance().play("explosion", 0.8f);
+
+        boolean shatter = playerBuild.hasTag("shatter");
+        for (int i = 0; i < blastHits.size; ++i) {
+            Entity enemy = blastHits.get(i);
+            PositionComponent enemyPos = posMapper.get(enemy);
+            HealthComponent enemyHealth = healthMapper.get(enemy);
+            float finalDamage = blastDamage.get(enemy, 0f);
+
+            if (shatter) {
+                StatusEffectsComponent effects = statusMapper.get(enemy);
+                if (effects != null && effects.has(StatusEffect.SHATTER)) {
+                    spawnVisualEffect(enemyPos.position, ParticleSystem.Effect.SHATTER, 60f, 0.4f);
+                    finalDamage *= 2.0f;
                 }
             }
+
+            enemyHealth.damage(finalDamage);
+            spawnDamageNumber(enemy, enemyPos.position, finalDamage, false);
+            if (events.hasSubscribers(EnemyHitEvent.class)) {
+                events.enqueue(events.obtain(EnemyHitEvent.class)
+                    .init(finalDamage, false, true, enemyPos.position.x, enemyPos.position.y));
+            }
+            if (!enemyHealth.isAlive()) killEnemy(enemy);
         }
+        blastDamage.clear();
+        blastHits.clear();
     }
 
+    /**
+     * Projectiles are tested as circles swept from their start-of-step position to their current one,
+     * against enemies swept the same way, so fast bolts can't pass through small enemies between steps.
+     * Hits are applied in time-of-impact order, so pierce is spent on the first enemies along the path.
+     */
     private void checkProjectileEnemyCollisions() {
-        Family projFamily = Family.all(ProjectileComponent.class, PositionComponent.class).get();
-        Family enemyFamily = Family.all(EnemyComponent.class, PositionComponent.class, HealthComponent.class).get();
-
-        ImmutableArray<Entity> projectiles = getEngine().getEntitiesFor(projFamily);
-        ImmutableArray<Entity> enemies = getEngine().getEntitiesFor(enemyFamily);
+        ImmutableArray<Entity> projectiles = registry.getProjectiles();
 
         for (int i = 0; i < projectiles.size(); ++i) {
             Entity proj = projectiles.get(i);
-            if (entitiesToRemove.contains(proj, true)) continue;
+            if (isPendingRemoval(proj)) continue;
 
             PositionComponent projPos = posMapper.get(proj);
             ProjectileComponent projComp = projMapper.get(proj);
             float projRadius = getEntityRadius(proj);
 
-            for (int j = 0; j < enemies.size(); ++j) {
-                Entity enemy = enemies.get(j);
-                if (entitiesToRemove.contains(enemy, true)) continue;
+            collectSweptHits(projPos, projRadius);
+            for (int j = 0; j < sweptHits.size; ++j) {
+                Entity enemy = sweptHits.get(j);
+                // Earlier hits in this loop (chains, kills) can change the later targets
+                if (isPendingRemoval(enemy) || !healthMapper.get(enemy).isAlive()) continue;
 
-                HealthComponent enemyHealth = healthMapper.get(enemy);
-                if (!enemyHealth.isAlive()) continue;
+                handleHit(proj, enemy, projComp, projPos);
 
-                PositionComponent enemyPos = posMapper.get(enemy);
-                float enemyRadius = getEntityRadius(enemy);
-
-                if (projPos.position.dst(enemyPos.position) < projRadius + enemyRadius) {
-                    handleHit(proj, enemy, projComp, projPos);
-
-                    PierceComponent pierce = pierceMapper.get(proj);
-                    if (pierce != null && pierce.remainingPierces > 0) {
-                        pierce.remainingPierces--;
-                    } else {
-                        queueRemoval(proj);
-                        break;
-                    }
+                PierceComponent pierce = pierceMapper.get(proj);
+                if (pierce != null && pierce.remainingPierces > 0) {
+                    pierce.remainingPierces--;
+                } else {
+                    queueRemoval(proj);
+                    break;
                 }
             }
         }
+        sweptHits.clear();
+    }
+
+    // Broadphase over the circle enclosing the swept segment, then an exact swept test per enemy
+    private void collectSweptHits(PositionComponent projPos, float projRadius) {
+        float x0 = projPos.previous.x, y0 = projPos.previous.y;
+        float x1 = projPos.position.x, y1 = projPos.position.y;
+        float halfLength = Vector2.dst(x0, y0, x1, y1) * 0.5f;
+
+        sweptHits.clear();
+        sweptTimes.clear();
+        enemyGrid.query((x0 + x1) * 0.5f, (y0 + y1) * 0.5f, halfLength + projRadius + ENEMY_STEP_SLACK, nearbyEnemies);
+        for (int j = 0; j < nearbyEnemies.size; ++j) {
+            Entity enemy = nearbyEnemies.get(j);
+            if (isPendingRemoval(enemy)) continue;
+            if (!healthMapper.get(enemy).isAlive()) continue;
+
+            PositionComponent enemyPos = posMapper.get(enemy);
+            float t = Sweep.timeOfImpact(x0, y0, x1, y1,
+                enemyPos.previous.x, enemyPos.previous.y, enemyPos.position.x, enemyPos.position.y,
+                projRadius + getEntityRadius(enemy));
+            if (t == Sweep.NO_HIT) continue;
+
+            // Insertion keeps the list sorted by t; ties keep grid order, which is deterministic
+            int at = sweptTimes.size;
+            while (at > 0 && sweptTimes.get(at - 1) > t) at--;
+            sweptHits.insert(at, enemy);
+            sweptTimes.insert(at, t);
+        }
     }
 
     // --- NEW: Check Boss/Enemy Projectile Collisions ---
@@ -222,18 +390,20 @@ public class CollisionSystem extends EntitySystem {
 
         float playerRadius = getEntityRadius(player);
 
-        Family projFamily = Family.all(EnemyProjectileComponent.class, PositionComponent.class).get();
-        ImmutableArray<Entity> projectiles = getEngine().getEntitiesFor(projFamily);
+        ImmutableArray<Entity> projectiles = registry.getEnemyProjectiles();
 
         for (int i = 0; i < projectiles.size(); ++i) {
             Entity proj = projectiles.get(i);
-            if (entitiesToRemove.contains(proj, true)) continue;
+            if (isPendingRemoval(proj)) continue;
 
             PositionComponent projPos = posMapper.get(proj);
             EnemyProjectileComponent enemyProj = enemyProjMapper.get(proj);
             float projRadius = getEntityRadius(proj);
 
-            if (playerPos.position.dst(projPos.position) < playerRadius + projRadius) {
+            float t = Sweep.timeOfImpact(projPos.previous.x, projPos.previous.y, projPos.position.x, projPos.position.y,
+                playerPos.previous.x, playerPos.previous.y, playerPos.position.x, playerPos.position.y,
+                playerRadius + projRadius);
+            if (t != Sweep.NO_HIT) {
                 // 1. Deal Damage
                 playerHealth.damage(enemyProj.damage, proj);
                 SoundManager.getInstance().play("hit", 1.0f);
@@ -242,30 +412,14 @@ public class CollisionSystem extends EntitySystem {
 
                 // A. Slow
                 SlowComponent slow = slowMapper.get(proj);
-                if (slow != null) {
-                    VelocityComponent playerVel = velMapper.get(player);
-                    SlowedComponent currentSlow = slowedMapper.get(player);
-
-                    if (playerVel != null) {
-                        if (currentSlow == null) {
-                            System.out.println("❄️ Player Slowed!");
-                            player.add(new SlowedComponent(slow.slowAmount, slow.slowDuration, playerVel.maxSpeed));
-                        } else {
-                            currentSlow.duration = Math.max(currentSlow.duration, slow.slowDuration);
-                        }
-                    }
+                if (slow != null && statusEffects.apply(player, StatusEffect.SLOW, slow.slowAmount, slow.slowDuration)) {
+                    System.out.println("❄️ Player Slowed!");
                 }
 
                 // B. Poison
                 PoisonComponent poison = poisonMapper.get(proj);
-                if (poison != null) {
-                    PoisonedComponent currentPoison = player.getComponent(PoisonedComponent.class);
-                    if (currentPoison == null) {
-                        System.out.println("☣️ Player Poisoned!");
-                        player.add(new PoisonedComponent(poison.damagePerSecond, poison.duration));
-                    } else {
-                        currentPoison.timeRemaining = Math.max(currentPoison.timeRemaining, poison.duration);
-                    }
+                if (poison != null && statusEffects.apply(player, StatusEffect.POISON, poison.damagePerSecond, poison.duration)) {
+                    System.out.println("☣️ Player Poisoned!");
                 }
 
                 // 3. Destroy Projectile
@@ -280,12 +434,10 @@ public class CollisionSystem extends EntitySystem {
         HealthComponent playerHealth = healthMapper.get(player);
         float playerRadius = getEntityRadius(player);
 
-        Family enemyFamily = Family.all(EnemyComponent.class, PositionComponent.class, HealthComponent.class).get();
-        ImmutableArray<Entity> enemies = getEngine().getEntitiesFor(enemyFamily);
-
-        for (int i = 0; i < enemies.size(); ++i) {
-            Entity enemy = enemies.get(i);
-            if (entitiesToRemove.contains(enemy, true)) continue;
+        enemyGrid.query(playerPos.position.x, playerPos.position.y, playerRadius, nearbyEnemies);
+        for (int i = 0; i < nearbyEnemies.size; ++i) {
+            Entity enemy = nearbyEnemies.get(i);
+            if (isPendingRemoval(enemy)) continue;
             HealthComponent enemyHealth = healthMapper.get(enemy);
             if (!enemyHealth.isAlive()) continue;
             PositionComponent enemyPos = posMapper.get(enemy);
@@ -300,22 +452,9 @@ public class CollisionSystem extends EntitySystem {
 
     // ... (Rest of file unchanged: checkPlayerXPCollisions, checkPlayerHealthCollisions, etc.) ...
 
-    private void spawnVisualEffect(Vector2 position, String textureName, float size, float duration) {
-        Entity effect = new Entity();
-        effect.add(new PositionComponent(position.x, position.y));
-        TextureManager tm = TextureManager.getInstance();
-        if (tm.hasTexture(textureName)) {
-            effect.add(new VisualComponent(size, size, tm.getTexture(textureName)));
-        } else {
-            effect.add(new VisualComponent(size, size, Color.WHITE));
-        }
-        effect.add(new LifetimeComponent(duration));
-        if (textureName.equals("effect_heal") || textureName.equals("vfx_steam")) {
-            VelocityComponent vel = new VelocityComponent(0);
-            vel.velocity.set(0, 50f);
-            effect.add(vel);
-        }
-        getEngine().addEntity(effect);
+    private void spawnVisualEffect(Vector2 position, ParticleSystem.Effect effect, float size, float duration) {
+        if (particles == null) return;
+        particles.spawn(effect, position.x, position.y, size, duration);
     }
 
     private void explodeAt(Vector2 position, ExplosiveComponent explosive) {
@@ -323,20 +462,9 @@ public class CollisionSystem extends EntitySystem {
     }
 
     private void spawnExplosionVisual(Vector2 position, float radius) {
-        Entity explosionVisual = new Entity();
-        explosionVisual.add(new PositionComponent(position.x, position.y));
-        float size = radius * 2.5f;
-        TextureManager tm = TextureManager.getInstance();
-        if (tm.hasTexture("fireball")) {
-            explosionVisual.add(new VisualComponent(size, size, tm.getTexture("fireball"), new Color(1f, 0.4f, 0.1f, 0.6f)));
-        } else {
-            explosionVisual.add(new VisualComponent(size, size, Color.ORANGE));
-        }
-        explosionVisual.add(new LifetimeComponent(0.25f));
-        SoundManager.getInstance().play("explosion", 0.8f);
-        getEngine().addEntity(explosionVisual);
+        spawnVisualEffect(position, ParticleSystem.Effect.EXPLOSION, radius * 2.5f, 0.25f);
         if (playerBuild.hasTag("toxic_cloud")) {
-            spawnVisualEffect(position, "effect_poison", radius * 2.5f, 2.0f);
+            spawnVisualEffect(position, ParticleSystem.Effect.POISON, radius * 2.5f, 2.0f);
         }
     }
 
@@ -347,12 +475,13 @@ public class CollisionSystem extends EntitySystem {
         ProjectileComponent pc = projMapper.get(proj);
         if (pc != null) {
             if ("fireball".equals(pc.spellType) && playerBuild.hasTag("thermal_shock")) {
-                if (slowedMapper.get(enemy) != null) {
-                    spawnVisualEffect(enemyPos.position, "vfx_steam", 50f, 0.6f);
+                StatusEffectsComponent effects = statusMapper.get(enemy);
+                if (effects != null && effects.has(StatusEffect.SLOW)) {
+                    spawnVisualEffect(enemyPos.position, ParticleSystem.Effect.STEAM, 50f, 0.6f);
                 }
             }
             if (pc.spellType.contains("lightning") && playerBuild.hasTag("electrocution")) {
-                spawnVisualEffect(enemyPos.position, "effect_poison", 40f, 0.4f);
+                spawnVisualEffect(enemyPos.position, ParticleSystem.Effect.POISON, 40f, 0.4f);
             }
         }
 
@@ -365,7 +494,11 @@ public class CollisionSystem extends EntitySystem {
         }
         enemyHealth.damage(finalDamage);
         SoundManager.getInstance().play("hit", 1.2f);
-        spawnDamageIndicator(enemyPos.position, finalDamage, isCritical);
+        spawnDamageNumber(enemy, enemyPos.position, finalDamage, isCritical);
+        if (events.hasSubscribers(EnemyHitEvent.class)) {
+            events.enqueue(events.obtain(EnemyHitEvent.class)
+                .init(finalDamage, isCritical, false, enemyPos.position.x, enemyPos.position.y));
+        }
         applySpellEffects(proj, enemy);
 
         ExplosiveComponent explosive = explosiveMapper.get(proj);
@@ -378,7 +511,8 @@ public class CollisionSystem extends EntitySystem {
         }
     }
 
-    private void checkPlayerXPCollisions() {
+    /** XP and health orb pickups, from one radius query on the shared pickup grid. */
+    private void checkPlayerPickups(float deltaTime) {
         PositionComponent playerPos = posMapper.get(player);
         PlayerComponent playerComp = playerMapper.get(player);
         HealthComponent playerHealth = healthMapper.get(player);
@@ -386,71 +520,77 @@ public class CollisionSystem extends EntitySystem {
         float pickupRange = Constants.XP_ORB_COLLECTION_RANGE * UpgradeHelper.getPickupRangeMultiplier(playerBuild);
         float xpMultiplier = UpgradeHelper.getXPMultiplier(playerBuild);
 
-        Family xpFamily = Family.all(XPOrbComponent.class, PositionComponent.class).get();
-        ImmutableArray<Entity> orbs = getEngine().getEntitiesFor(xpFamily);
+        // The grid holds positions from before XPMagnetSystem pulled the orbs in
+        float reach = Math.max(pickupRange, Constants.XP_ORB_COLLECTION_RANGE) + XPMagnetSystem.MAGNET_SPEED * deltaTime;
+        spatialIndex.getPickupGrid().query(playerPos.position.x, playerPos.position.y, reach, nearbyPickups);
 
-        for (int i = 0; i < orbs.size(); ++i) {
-            Entity orb = orbs.get(i);
-            if (entitiesToRemove.contains(orb, true)) continue;
+        for (int i = 0; i < nearbyPickups.size; ++i) {
+            Entity orb = nearbyPickups.get(i);
+            if (isPendingRemoval(orb)) continue;
             PositionComponent orbPos = posMapper.get(orb);
+            float distance = playerPos.position.dst(orbPos.position);
+
             XPOrbComponent orbComp = xpMapper.get(orb);
-            if (playerPos.position.dst(orbPos.position) < pickupRange) {
+            if (orbComp != null) {
+                if (distance >= pickupRange) continue;
                 playerComp.xp += orbComp.xpValue * xpMultiplier;
                 SoundManager.getInstance().play("pickup", 1.0f);
+                if (events.hasSubscribers(PickupEvent.class)) {
+                    events.enqueue(events.obtain(PickupEvent.class)
+                        .init(PickupEvent.PickupType.XP, orbComp.xpValue * xpMultiplier, orbPos.position.x, orbPos.position.y));
+                }
                 if (playerComp.xp >= playerComp.xpToNextLevel) levelUp(player, playerComp, playerHealth, playerVel);
                 queueRemoval(orb);
+                continue;
             }
-        }
-    }
 
-    private void checkPlayerHealthCollisions() {
-        PositionComponent playerPos = posMapper.get(player);
-        HealthComponent playerHealth = healthMapper.get(player);
-        Family healthFamily = Family.all(HealthOrbComponent.class, PositionComponent.class).get();
-        ImmutableArray<Entity> orbs = getEngine().getEntitiesFor(healthFamily);
-
-        for (int i = 0; i < orbs.size(); ++i) {
-            Entity orb = orbs.get(i);
-            if (entitiesToRemove.contains(orb, true)) continue;
-            PositionComponent orbPos = posMapper.get(orb);
-            HealthOrbComponent orbComp = healthOrbMapper.get(orb);
-            if (playerPos.position.dst(orbPos.position) < Constants.XP_ORB_COLLECTION_RANGE) {
-                float healAmount = Math.min(orbComp.healAmount, playerHealth.maxHealth - playerHealth.currentHealth);
+            HealthOrbComponent healthOrb = healthOrbMapper.get(orb);
+            if (healthOrb != null && distance < Constants.XP_ORB_COLLECTION_RANGE) {
+                float healAmount = Math.min(healthOrb.healAmount, playerHealth.maxHealth - playerHealth.currentHealth);
                 playerHealth.currentHealth += healAmount;
+                if (events.hasSubscribers(PickupEvent.class)) {
+                    events.enqueue(events.obtain(PickupEvent.class)
+                        .init(PickupEvent.PickupType.HEALTH, healAmount, orbPos.position.x, orbPos.position.y));
+                }
                 queueRemoval(orb);
             }
         }
+        nearbyPickups.clear();
     }
 
     private void removeDeadEnemies() {
-        Family enemyFamily = Family.all(EnemyComponent.class, PositionComponent.class, HealthComponent.class).get();
-        ImmutableArray<Entity> enemies = getEngine().getEntitiesFor(enemyFamily);
+        ImmutableArray<Entity> enemies = registry.getEnemies();
 
         for (int i = 0; i < enemies.size(); ++i) {
             Entity enemy = enemies.get(i);
-            if (entitiesToRemove.contains(enemy, true)) continue;
-            HealthComponent health = healthMapper.get(enemy);
-            if (!health.isAlive()) {
-                PositionComponent pos = posMapper.get(enemy);
-                EnemyComponent enemyComp = enemyMapper.get(enemy);
-                spawnXPOrb(pos.position, enemyComp.xpDropped);
-
-                if (UpgradeHelper.hasLifeSteal(playerBuild) && player != null) {
-                    HealthComponent playerHealth = healthMapper.get(player);
-                    if (playerHealth != null) {
-                        playerHealth.currentHealth = Math.min(playerHealth.currentHealth + 1f, playerHealth.maxHealth);
-                        spawnVisualEffect(posMapper.get(player).position, "effect_heal", 40f, 0.5f);
-                    }
-                }
+            if (isPendingRemoval(enemy)) continue;
+            if (!healthMapper.get(enemy).isAlive()) killEnemy(enemy);
+        }
+    }
 
-                if (random.nextFloat() < 0.05f * UpgradeHelper.getHealthDropMultiplier(playerBuild)) spawnHealthOrb(pos.position, 10f);
-                if (UpgradeHelper.shouldExplodeOnDeath(playerBuild)) {
-                    ExplosiveComponent deathExplosion = new ExplosiveComponent(50f, 40f);
-                    queueExplosion(pos.position, deathExplosion);
-                }
-                queueRemoval(enemy);
+    /** Drops loot, applies on-kill upgrades and queues the enemy for removal. */
+    private void killEnemy(Entity enemy) {
+        PositionComponent pos = posMapper.get(enemy);
+        EnemyComponent enemyComp = enemyMapper.get(enemy);
+        spawnXPOrb(pos.position, enemyComp.xpDropped);
+        if (events.hasSubscribers(EnemyKilledEvent.class)) {
+            events.enqueue(events.obtain(EnemyKilledEvent.class)
+                .init(enemyComp.enemyType, enemyComp.xpDropped, pos.position.x, pos.position.y));
+        }
+
+        if (UpgradeHelper.hasLifeSteal(playerBuild) && player != null) {
+            HealthComponent playerHealth = healthMapper.get(player);
+            if (playerHealth != null) {
+                playerHealth.currentHealth = Math.min(playerHealth.currentHealth + 1f, playerHealth.maxHealth);
+                spawnVisualEffect(posMapper.get(player).position, ParticleSystem.Effect.HEAL, 40f, 0.5f);
             }
         }
+
+        if (random.nextFloat() < 0.05f * UpgradeHelper.getHealthDropMultiplier(playerBuild)) spawnHealthOrb(pos.position, 10f);
+        if (UpgradeHelper.shouldExplodeOnDeath(playerBuild)) {
+            queueExplosion(pos.position, 50f, 40f);
+        }
+        queueRemoval(enemy);
     }
 
     private void levelUp(Entity player, PlayerComponent pc, HealthComponent health, VelocityComponent vel) {
@@ -465,39 +605,54 @@ public class CollisionSystem extends EntitySystem {
     }
 
     private void spawnXPOrb(Vector2 position, float xpValue) {
-        Entity orb = new Entity();
-        orb.add(new PositionComponent(position.x, position.y));
+        // Over the cap the XP goes into the nearest orb instead, so none is lost
+        if (registry.getXPOrbs().size() + newXPOrbs.size >= Constants.XP_ORB_CAP) {
+            Entity nearest = nearestXPOrb(position);
+            if (nearest != null) {
+                xpMapper.get(nearest).xpValue += xpValue;
+                return;
+            }
+        }
+
+        Entity orb = getEngine().createEntity();
+        orb.add(getEngine().createComponent(PositionComponent.class).init(position.x, position.y));
         TextureManager tm = TextureManager.getInstance();
-        if (tm.hasTexture("xp_orb")) orb.add(new VisualComponent(Constants.XP_ORB_SIZE * 3f, Constants.XP_ORB_SIZE * 3f, tm.getTexture("xp_orb")));
-        else orb.add(new VisualComponent(Constants.XP_ORB_SIZE, Constants.XP_ORB_SIZE, Color.GREEN));
-        orb.add(new XPOrbComponent(xpValue));
+        if (tm.hasTexture("xp_orb")) orb.add(getEngine().createComponent(VisualComponent.class).init(Constants.XP_ORB_SIZE * 3f, Constants.XP_ORB_SIZE * 3f, tm.getRegion("xp_orb")));
+        else orb.add(getEngine().createComponent(VisualComponent.class).init(Constants.XP_ORB_SIZE, Constants.XP_ORB_SIZE, Color.GREEN));
+        orb.add(getEngine().createComponent(XPOrbComponent.class).init(xpValue));
         getEngine().addEntity(orb);
+        newXPOrbs.add(orb);
+    }
+
+    private Entity nearestXPOrb(Vector2 position) {
+        Entity nearest = spatialIndex.getPickupGrid().nearest(position.x, position.y, Float.MAX_VALUE, xpOrbFilter);
+        float bestDst2 = nearest != null ? position.dst2(posMapper.get(nearest).position) : Float.MAX_VALUE;
+        for (int i = 0; i < newXPOrbs.size; ++i) {
+            Entity orb = newXPOrbs.get(i);
+            float dst2 = position.dst2(posMapper.get(orb).position);
+            if (dst2 < bestDst2) {
+                nearest = orb;
+                bestDst2 = dst2;
+            }
+        }
+        return nearest;
     }
 
     private void spawnHealthOrb(Vector2 position, float healAmount) {
-        Entity orb = new Entity();
-        orb.add(new PositionComponent(position.x, position.y));
+        Entity orb = getEngine().createEntity();
+        orb.add(getEngine().createComponent(PositionComponent.class).init(position.x, position.y));
         TextureManager tm = TextureManager.getInstance();
-        if (tm.hasTexture("health_orb")) orb.add(new VisualComponent(Constants.XP_ORB_SIZE * 3f, Constants.XP_ORB_SIZE * 3f, tm.getTexture("health_orb")));
-        else orb.add(new VisualComponent(Constants.XP_ORB_SIZE, Constants.XP_ORB_SIZE, Color.RED));
-        orb.add(new HealthOrbComponent(healAmount));
+        if (tm.hasTexture("health_orb")) orb.add(getEngine().createComponent(VisualComponent.class).init(Constants.XP_ORB_SIZE * 3f, Constants.XP_ORB_SIZE * 3f, tm.getRegion("health_orb")));
+        else orb.add(getEngine().createComponent(VisualComponent.class).init(Constants.XP_ORB_SIZE, Constants.XP_ORB_SIZE, Color.RED));
+        orb.add(getEngine().createComponent(HealthOrbComponent.class).init(healAmount));
         getEngine().addEntity(orb);
     }
 
     private void applySpellEffects(Entity projectile, Entity enemy) {
         SlowComponent slow = slowMapper.get(projectile);
-        if (slow != null) {
-            VelocityComponent enemyVel = velMapper.get(enemy);
-            if (enemyVel != null && enemy.getComponent(SlowedComponent.class) == null) {
-                enemy.add(new SlowedComponent(slow.slowAmount, slow.slowDuration, enemyVel.maxSpeed));
-            }
-        }
+        if (slow != null) statusEffects.apply(enemy, StatusEffect.SLOW, slow.slowAmount, slow.slowDuration);
         PoisonComponent poison = poisonMapper.get(projectile);
-        if (poison != null) {
-            PoisonedComponent poisoned = enemy.getComponent(PoisonedComponent.class);
-            if (poisoned == null) enemy.add(new PoisonedComponent(poison.damagePerSecond, poison.duration));
-            else poisoned.timeRemaining = Math.max(poisoned.timeRemaining, poison.duration);
-        }
+        if (poison != null) statusEffects.apply(enemy, StatusEffect.POISON, poison.damagePerSecond, poison.duration);
     }
 
     private void chainToNearbyEnemy(Entity sourceProjectile, Entity sourceEnemy) {
@@ -505,30 +660,11 @@ public class CollisionSystem extends EntitySystem {
         if (chain == null || chain.remainingChains <= 0) return;
 
         PositionComponent sourcePos = posMapper.get(sourceEnemy);
-        Entity nearestEnemy = null;
-        float minDist = Float.MAX_VALUE;
 
-        Family enemyFamily = Family.all(EnemyComponent.class, PositionComponent.class, HealthComponent.class).get();
-        ImmutableArray<Entity> enemies = getEngine().getEntitiesFor(enemyFamily);
-
-        for (int i = 0; i < enemies.size(); ++i) {
-            Entity enemy = enemies.get(i);
-
-            if (enemy == sourceEnemy) continue;
-            if (chain.hitEntities.contains(enemy)) continue;
-            if (entitiesToRemove.contains(enemy, true)) continue;
-
-            HealthComponent health = healthMapper.get(enemy);
-            if (!health.isAlive()) continue;
-
-            PositionComponent pos = posMapper.get(enemy);
-            float distance = sourcePos.position.dst(pos.position);
-
-            if (distance <= chain.chainRange && distance < minDist) {
-                minDist = distance;
-                nearestEnemy = enemy;
-            }
-        }
+        chainFilter.source = sourceEnemy;
+        Entity nearestEnemy = spatialIndex.getTargeting().nearestNotIn(
+            sourcePos.position.x, sourcePos.position.y, chain.chainRange, chain.hitEntities, chainFilter);
+        chainFilter.source = null;
 
         if (nearestEnemy != null) {
             HealthComponent health = healthMapper.get(nearestEnemy);
@@ -537,18 +673,24 @@ public class CollisionSystem extends EntitySystem {
             chain.remainingChains--;
 
             PositionComponent targetPos = posMapper.get(nearestEnemy);
-            spawnDamageIndicator(targetPos.position, chain.chainDamage, false);
+            spawnDamageNumber(nearestEnemy, targetPos.position, chain.chainDamage, false);
         }
     }
 
-    private void spawnDamageIndicator(Vector2 position, float damage, boolean isCritical) {
-        if (Float.isNaN(position.x) || Float.isNaN(position.y) || Float.isInfinite(position.x) || Float.isInfinite(position.y)) return;
-        Entity indicator = new Entity();
-        indicator.add(new PositionComponent(position.x, position.y + 20f));
-        indicator.add(new DamageIndicatorComponent(damage, isCritical));
-        VelocityComponent vel = new VelocityComponent(0);
-        vel.velocity.set(0, 50f);
-        indicator.add(vel);
-        getEngine().addEntity(indicator);
+    private void spawnDamageNumber(Entity target, Vector2 position, float damage, boolean isCritical) {
+        if (floatingText == null) return;
+        floatingText.spawn(target, position.x, position.y + 20f, damage,
+            isCritical ? FloatingTextSystem.Style.CRITICAL : FloatingTextSystem.Style.NORMAL);
+    }
+
+    /** Rejects enemies a chain has already visited, dead enemies and anything queued for removal. */
+    private class ChainTargetFilter implements SpatialHashGrid.Filter {
+        Entity source;
+
+        // Liveness and already-hit checks are done by the targeting service
+        @Override
+        public boolean accept(Entity enemy) {
+            return enemy != source && !isPendingRemoval(enemy);
+        }
     }
 }
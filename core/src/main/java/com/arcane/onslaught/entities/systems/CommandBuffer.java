@@ -0,0 +1,88 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Structural changes recorded off the main thread and applied later, in recording order.
+ * The engine, its pools and entity component bags are not thread-safe, so worker threads
+ * never touch them directly; they record here and the owning system flushes on the main thread.
+ */
+public class CommandBuffer {
+
+    /** Main-thread work tied to an entity, e.g. spawning a damage number at its position. */
+    public interface Deferred {
+        void run(Engine engine, Entity entity, float value);
+    }
+
+    private static final int REMOVE_ENTITY = 0;
+    private static final int REMOVE_COMPONENT = 1;
+    private static final int ADD_ENTITY = 2;
+    private static final int CALL = 3;
+
+    // One command per index across all four arrays
+    private final IntArray ops = new IntArray();
+    private final Array<Entity> entities = new Array<>();
+    private final Array<Object> args = new Array<>();
+    private final FloatArray values = new FloatArray();
+
+    public void removeEntity(Entity entity) {
+        record(REMOVE_ENTITY, entity, null, 0f);
+    }
+
+    public void removeComponent(Entity entity, Class<? extends Component> type) {
+        record(REMOVE_COMPONENT, entity, type, 0f);
+    }
+
+    public void addEntity(Entity entity) {
+        record(ADD_ENTITY, entity, null, 0f);
+    }
+
+    public void call(Deferred action, Entity entity, float value) {
+        record(CALL, entity, action, value);
+    }
+
+    public boolean isEmpty() { return ops.size == 0; }
+    public int size() { return ops.size; }
+
+    /** Applies every command in the order it was recorded, then empties the buffer. */
+    @SuppressWarnings("unchecked")
+    public void flush(Engine engine) {
+        for (int i = 0; i < ops.size; i++) {
+            Entity entity = entities.get(i);
+            switch (ops.get(i)) {
+                case REMOVE_ENTITY:
+                    engine.removeEntity(entity);
+                    break;
+                case REMOVE_COMPONENT:
+                    entity.remove((Class<? extends Component>) args.get(i));
+                    break;
+                case ADD_ENTITY:
+                    engine.addEntity(entity);
+                    break;
+                case CALL:
+                    ((Deferred) args.get(i)).run(engine, entity, values.get(i));
+                    break;
+            }
+        }
+        clear();
+    }
+
+    public void clear() {
+        ops.clear();
+        entities.clear();
+        args.clear();
+        values.clear();
+    }
+
+    private void record(int op, Entity entity, Object arg, float value) {
+        ops.add(op);
+        entities.add(entity);
+        args.add(arg);
+        values.add(value);
+    }
+}
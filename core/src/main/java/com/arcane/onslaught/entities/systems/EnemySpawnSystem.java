@@ -5,12 +5,11 @@ import com.arcane.onslaught.entities.components.PlayerComponent;
 import com.arcane.onslaught.entities.components.PositionComponent;
 import com.arcane.onslaught.utils.SoundManager;
 import com.badlogic.ashley.core.*;
-import com.badlogic.ashley.utils.ImmutableArray;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.arcane.onslaught.enemies.EnemyFactory;
 import com.arcane.onslaught.enemies.EnemyFactory.SpawnPattern;
 import com.arcane.onslaught.utils.Constants;
+import com.arcane.onslaught.utils.GameRandom;
 
 public class EnemySpawnSystem extends EntitySystem {
     private EnemyFactory factory;
@@ -26,12 +25,19 @@ public class EnemySpawnSystem extends EntitySystem {
     private int currentPlayerLevel = 1; // --- NEW: Track level for scaling ---
     private ComponentMapper<PlayerComponent> playerMapper = ComponentMapper.getFor(PlayerComponent.class);
     private ComponentMapper<PositionComponent> posMapper = ComponentMapper.getFor(PositionComponent.class);
+    private EntityRegistry registry;
+    private final GameRandom.RandomStream random = GameRandom.of(GameRandom.Channel.SPAWN);
 
     public EnemySpawnSystem(EnemyFactory factory) {
         this.factory = factory;
         this.spawnInterval = Constants.ENEMY_SPAWN_INTERVAL;
     }
 
+    @Override
+    public void addedToEngine(Engine engine) {
+        registry = EntityRegistry.of(engine);
+    }
+
     @Override
     public void update(float deltaTime) {
         gameTime += deltaTime;
@@ -57,12 +63,19 @@ public class EnemySpawnSystem extends EntitySystem {
         }
     }
 
+    /** Jumps the spawn clock, e.g. to script a late-game scenario. Difficulty follows on the next update. */
+    public void setGameTime(float gameTime) {
+        this.gameTime = gameTime;
+    }
+
+    public float getGameTime() { return gameTime; }
+    public float getDifficulty() { return difficulty; }
+
     // --- NEW: Helper to get level ---
     private void fetchPlayerLevel() {
-        Family playerFamily = Family.all(PlayerComponent.class).get();
-        ImmutableArray<Entity> players = getEngine().getEntitiesFor(playerFamily);
-        if (players.size() > 0) {
-            currentPlayerLevel = playerMapper.get(players.get(0)).level;
+        Entity player = registry.getPlayer();
+        if (player != null) {
+            currentPlayerLevel = playerMapper.get(player).level;
         }
     }
 
@@ -134,12 +147,11 @@ public class EnemySpawnSystem extends EntitySystem {
     // ... (triggerSpecialWave, spawnEnemies, getRandomEdgePosition remain unchanged) ...
     private void triggerSpecialWave() {
         Vector2 playerPos = new Vector2(0, 0);
-        Family playerFamily = Family.all(PlayerComponent.class).get();
-        ImmutableArray<Entity> players = getEngine().getEntitiesFor(playerFamily);
-        if (players.size() > 0) {
-            playerPos.set(posMapper.get(players.get(0)).position);
+        Entity player = registry.getPlayer();
+        if (player != null) {
+            playerPos.set(posMapper.get(player).position);
         }
-        SpawnPattern pattern = SpawnPattern.values()[MathUtils.random(SpawnPattern.values().length - 1)];
+        SpawnPattern pattern = SpawnPattern.values()[random.random(SpawnPattern.values().length - 1)];
         int count = 10 + (int)(difficulty * 2);
         String enemyType = "imp";
         if (difficulty > 3.0f) enemyType = "tank";
@@ -151,8 +163,8 @@ public class EnemySpawnSystem extends EntitySystem {
     private void spawnEnemies() {
         Vector2 spawnPos = getRandomEdgePosition(50f);
         float swarmChance = Math.min(0.3f, difficulty * 0.05f);
-        if (MathUtils.random() < swarmChance) {
-            int count = 3 + MathUtils.random(2);
+        if (random.random() < swarmChance) {
+            int count = 3 + random.random(2);
             factory.spawnSwarm(getEngine(), spawnPos, "swarm", count, difficulty);
         } else {
             factory.spawnRandomEnemy(getEngine(), spawnPos, difficulty);
@@ -160,17 +172,17 @@ public class EnemySpawnSystem extends EntitySystem {
     }
 
     private Vector2 getRandomEdgePosition(float buffer) {
-        int edge = MathUtils.random(3);
+        int edge = random.random(3);
         float x, y;
         float minX = Constants.ARENA_OFFSET_X - buffer;
         float maxX = Constants.ARENA_OFFSET_X + Constants.ARENA_WIDTH + buffer;
         float minY = Constants.ARENA_OFFSET_Y - buffer;
         float maxY = Constants.ARENA_OFFSET_Y + Constants.ARENA_HEIGHT + buffer;
         switch (edge) {
-            case 0: x = MathUtils.random(minX, maxX); y = maxY; break;
-            case 1: x = maxX; y = MathUtils.random(minY, maxY); break;
-            case 2: x = MathUtils.random(minX, maxX); y = minY; break;
-            default: x = minX; y = MathUtils.random(minY, maxY); break;
+            case 0: x = random.random(minX, maxX); y = maxY; break;
+            case 1: x = maxX; y = random.random(minY, maxY); break;
+            case 2: x = random.random(minX, maxX); y = minY; break;
+            default: x = minX; y = random.random(minY, maxY); break;
         }
         return new Vector2(x, y);
     }
@@ -0,0 +1,94 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.arcane.onslaught.entities.components.*;
+import com.badlogic.ashley.core.*;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * Shared, resolve-once access to the entity families the gameplay systems scan every frame.
+ * Does no per-frame work itself; systems look it up in addedToEngine and keep the views.
+ * Must be the first system added so it exists before anything that uses it.
+ */
+public class EntityRegistry extends EntitySystem implements EntityListener {
+    // --- Families ---
+    public static final Family PLAYERS = Family.all(PlayerComponent.class, PositionComponent.class).get();
+    public static final Family ENEMIES = Family.all(EnemyComponent.class, PositionComponent.class, HealthComponent.class).get();
+    public static final Family PROJECTILES = Family.all(ProjectileComponent.class, PositionComponent.class).get();
+    public static final Family ENEMY_PROJECTILES = Family.all(EnemyProjectileComponent.class, PositionComponent.class).get();
+    public static final Family XP_ORBS = Family.all(XPOrbComponent.class, PositionComponent.class).get();
+    public static final Family HEALTH_ORBS = Family.all(HealthOrbComponent.class, PositionComponent.class).get();
+
+    // --- Live views (kept up to date by the engine) ---
+    private ImmutableArray<Entity> players;
+    private ImmutableArray<Entity> enemies;
+    private ImmutableArray<Entity> projectiles;
+    private ImmutableArray<Entity> enemyProjectiles;
+    private ImmutableArray<Entity> xpOrbs;
+    private ImmutableArray<Entity> healthOrbs;
+
+    private Entity player;
+
+    public EntityRegistry() {
+        setProcessing(false);
+    }
+
+    /**
+     * Returns the engine's registry, adding one if it hasn't been registered yet.
+     */
+    public static EntityRegistry of(Engine engine) {
+        EntityRegistry registry = engine.getSystem(EntityRegistry.class);
+        if (registry == null) {
+            registry = new EntityRegistry();
+            engine.addSystem(registry);
+        }
+        return registry;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        players = engine.getEntitiesFor(PLAYERS);
+        enemies = engine.getEntitiesFor(ENEMIES);
+        projectiles = engine.getEntitiesFor(PROJECTILES);
+        enemyProjectiles = engine.getEntitiesFor(ENEMY_PROJECTILES);
+        xpOrbs = engine.getEntitiesFor(XP_ORBS);
+        healthOrbs = engine.getEntitiesFor(HEALTH_ORBS);
+
+        player = players.size() > 0 ? players.first() : null;
+        engine.addEntityListener(PLAYERS, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        player = null;
+    }
+
+    // --- Player handle ---
+    @Override
+    public void entityAdded(Entity entity) {
+        if (player == null) player = entity;
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        if (entity != player) return;
+        player = null;
+        for (int i = 0; i < players.size(); ++i) {
+            Entity candidate = players.get(i);
+            if (candidate != entity) {
+                player = candidate;
+                break;
+            }
+        }
+    }
+
+    /** The current player entity, or null while there is none. */
+    public Entity getPlayer() { return player; }
+
+    public ImmutableArray<Entity> getPlayers() { return players; }
+    public ImmutableArray<Entity> getEnemies() { return enemies; }
+    public ImmutableArray<Entity> getProjectiles() { return projectiles; }
+    public ImmutableArray<Entity> getEnemyProjectiles() { return enemyProjectiles; }
+    public ImmutableArray<Entity> getXPOrbs() { return xpOrbs; }
+    public ImmutableArray<Entity> getHealthOrbs() { return healthOrbs; }
+}
@@ -0,0 +1,16 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.arcane.onslaught.events.EventManager;
+
+/**
+ * Drains the EventManager queue. Added last, so events enqueued during a simulation step
+ * reach their listeners at the end of that same step.
+ */
+public class EventDispatchSystem extends EntitySystem {
+
+    @Override
+    public void update(float deltaTime) {
+        EventManager.getInstance().drain();
+    }
+}
@@ -0,0 +1,235 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.arcane.onslaught.entities.components.HealthComponent;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Floating damage numbers, kept outside the ECS in a pooled list.
+ *
+ * - Hits on the same target with the same style within COALESCE_WINDOW add to one number.
+ *   Targets are forgotten when they leave the engine, so a pooled entity reused for a new
+ *   enemy starts a number of its own.
+ * - At most MAX_TEXTS are alive; spawning past the cap evicts the oldest.
+ * - Laid-out glyph runs are cached per style and value, so steady state draws without
+ *   building strings or running GlyphLayout.
+ *
+ * Drawing is skipped when constructed without a batch (headless runs), but numbers still
+ * age and expire so the spawn cost stays representative.
+ */
+public class FloatingTextSystem extends EntitySystem {
+    public static final int MAX_TEXTS = 256;
+    public static final float COALESCE_WINDOW = 0.25f;
+
+    // Cached layouts per style; cleared when full, values repeat heavily in practice
+    private static final int MAX_CACHED_LAYOUTS = 512;
+
+    public enum Style {
+        NORMAL(Color.WHITE, 1.0f, 50f, false, ""),
+        CRITICAL(new Color(1f, 0.2f, 0.2f, 1f), 1.5f, 50f, true, "CRIT! "),
+        POISON(Color.CHARTREUSE, 1.0f, 30f, false, ""),
+        BURN(Color.ORANGE, 1.0f, 30f, false, "");
+
+        final Color color;
+        final float lifetime;
+        final float riseSpeed;
+        final boolean large;
+        final String prefix;
+
+        Style(Color color, float lifetime, float riseSpeed, boolean large, String prefix) {
+            this.color = color;
+            this.lifetime = lifetime;
+            this.riseSpeed = riseSpeed;
+            this.large = large;
+            this.prefix = prefix;
+        }
+    }
+
+    private static class FloatingText implements Pool.Poolable {
+        Entity target;
+        Style style;
+        float x, y;
+        float amount;
+        float age;
+
+        @Override
+        public void reset() {
+            target = null;
+            style = null;
+            amount = 0;
+            age = 0;
+        }
+    }
+
+    private final Pool<FloatingText> pool = new Pool<FloatingText>(MAX_TEXTS, MAX_TEXTS) {
+        @Override
+        protected FloatingText newObject() {
+            return new FloatingText();
+        }
+    };
+
+    // Oldest first
+    private final Array<FloatingText> texts = new Array<>(true, MAX_TEXTS);
+    private final ObjectMap<Entity, FloatingText> latestByTarget = new ObjectMap<>();
+
+    private final SpriteBatch batch;
+    private final OrthographicCamera camera;
+    private BitmapFont font;
+    private BitmapFont critFont;
+    // One layout cache per style, indexed by ordinal
+    private final Array<IntMap<GlyphLayout>> layoutCache;
+
+    private int evicted = 0;
+
+    // Everything that takes damage numbers has health
+    private final EntityListener targetRemover = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {}
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            latestByTarget.remove(entity);
+        }
+    };
+
+    /** Headless: numbers are tracked and expired but never drawn. */
+    public FloatingTextSystem() {
+        this(null, null);
+    }
+
+    public FloatingTextSystem(SpriteBatch batch, OrthographicCamera camera) {
+        this.batch = batch;
+        this.camera = camera;
+        int styles = Style.values().length;
+        layoutCache = new Array<>(true, styles);
+        for (int i = 0; i < styles; i++) layoutCache.add(new IntMap<>());
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(Family.all(HealthComponent.class).get(), targetRemover);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(targetRemover);
+        latestByTarget.clear();
+    }
+
+    /** Shows a damage number at (x, y). Pass the damaged entity to merge rapid hits, or null. */
+    public void spawn(Entity target, float x, float y, float amount, Style style) {
+        if (Float.isNaN(x) || Float.isNaN(y) || Float.isInfinite(x) || Float.isInfinite(y)) return;
+
+        if (target != null) {
+            FloatingText latest = latestByTarget.get(target);
+            if (latest != null && latest.style == style && latest.age < COALESCE_WINDOW) {
+                latest.amount += amount;
+                return;
+            }
+        }
+
+        if (texts.size >= MAX_TEXTS) {
+            release(texts.removeIndex(0));
+            evicted++;
+        }
+
+        FloatingText text = pool.obtain();
+        text.target = target;
+        text.style = style;
+        text.x = x;
+        text.y = y;
+        text.amount = amount;
+        texts.add(text);
+        if (target != null) latestByTarget.put(target, text);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        int write = 0;
+        for (int i = 0; i < texts.size; i++) {
+            FloatingText text = texts.get(i);
+            text.age += deltaTime;
+            text.y += text.style.riseSpeed * deltaTime;
+            if (text.age >= text.style.lifetime) {
+                release(text);
+            } else {
+                texts.set(write++, text);
+            }
+        }
+        texts.truncate(write);
+
+        if (batch != null && texts.size > 0) draw();
+    }
+
+    private void draw() {
+        if (font == null) createFonts();
+
+        batch.setColor(Color.WHITE);
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        for (int i = 0; i < texts.size; i++) {
+            FloatingText text = texts.get(i);
+            float alpha = 1f - text.age / text.style.lifetime;
+            if (alpha <= 0.01f) continue;
+
+            BitmapFont textFont = text.style.large ? critFont : font;
+            GlyphLayout layout = layoutFor(text.style, textFont, (int) text.amount);
+            BitmapFontCache cache = textFont.getCache();
+            cache.clear();
+            cache.addText(layout, text.x - layout.width / 2, text.y + layout.height / 2);
+            cache.tint(text.style.color);
+            cache.draw(batch, alpha);
+        }
+        batch.end();
+    }
+
+    private GlyphLayout layoutFor(Style style, BitmapFont textFont, int value) {
+        IntMap<GlyphLayout> cache = layoutCache.get(style.ordinal());
+        GlyphLayout layout = cache.get(value);
+        if (layout == null) {
+            if (cache.size >= MAX_CACHED_LAYOUTS) cache.clear();
+            // Laid out in white; the style colour is applied as a tint when drawing
+            layout = new GlyphLayout(textFont, style.prefix + value);
+            cache.put(value, layout);
+        }
+        return layout;
+    }
+
+    private void createFonts() {
+        font = new BitmapFont();
+        font.getData().setScale(1.5f);
+        font.setUseIntegerPositions(false);
+
+        critFont = new BitmapFont();
+        critFont.getData().setScale(2.2f);
+        critFont.setUseIntegerPositions(false);
+    }
+
+    private void release(FloatingText text) {
+        if (text.target != null && latestByTarget.get(text.target) == text) latestByTarget.remove(text.target);
+        pool.free(text);
+    }
+
+    public int getActiveCount() { return texts.size; }
+
+    /** Numbers dropped by the cap since the system was created. */
+    public int getEvictedCount() { return evicted; }
+
+    public void dispose() {
+        if (font != null) font.dispose();
+        if (critFont != null) critFont.dispose();
+    }
+}
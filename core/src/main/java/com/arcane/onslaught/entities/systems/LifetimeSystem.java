@@ -1,10 +1,9 @@
 package com.arcane.onslaught.entities.systems;
 
 import com.badlogic.ashley.core.*;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.arcane.onslaught.entities.components.*;
 
-public class LifetimeSystem extends IteratingSystem {
+public class LifetimeSystem extends ParallelIteratingSystem {
     private ComponentMapper<LifetimeComponent> lm = ComponentMapper.getFor(LifetimeComponent.class);
     private ComponentMapper<VisualComponent> vm = ComponentMapper.getFor(VisualComponent.class);
 
@@ -13,7 +12,7 @@ public class LifetimeSystem extends IteratingSystem {
     }
 
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
+    protected void processEntity(Entity entity, float deltaTime, CommandBuffer commands) {
         LifetimeComponent life = lm.get(entity);
         VisualComponent vis = vm.get(entity);
 
@@ -28,7 +27,7 @@ public class LifetimeSystem extends IteratingSystem {
 
         // Remove when time is up
         if (life.timer >= life.duration) {
-            getEngine().removeEntity(entity);
+            commands.removeEntity(entity);
         }
     }
 }
@@ -1,21 +1,69 @@
 package com.arcane.onslaught.entities.systems;
 
 import com.badlogic.ashley.core.*;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.math.MathUtils;
+import com.arcane.onslaught.entities.TransformStore;
 import com.arcane.onslaught.entities.components.*;
 import com.arcane.onslaught.utils.Constants;
 
-public class MovementSystem extends IteratingSystem {
+/**
+ * Integrates velocity into position. With -Darcane.soa=true (or setUsePackedStore) it runs
+ * through a TransformStore instead: load, one packed loop, write back. The store only tracks
+ * the family while the packed path is on.
+ */
+public class MovementSystem extends ParallelIteratingSystem {
+    public static final String PACKED_PROPERTY = "arcane.soa";
+
     private ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(PositionComponent.class);
     private ComponentMapper<VelocityComponent> vm = ComponentMapper.getFor(VelocityComponent.class);
 
+    private boolean usePackedStore = Boolean.getBoolean(PACKED_PROPERTY);
+    private final TransformStore store = new TransformStore();
+    private EntityRegistry registry;
+
     public MovementSystem() {
-        super(Family.all(PositionComponent.class, VelocityComponent.class).get());
+        super(TransformStore.FAMILY);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        registry = EntityRegistry.of(engine);
+        if (usePackedStore) attachStore(engine);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        if (usePackedStore) detachStore(engine);
+        super.removedFromEngine(engine);
+    }
+
+    private void attachStore(Engine engine) {
+        store.addAll(getEntities());
+        engine.addEntityListener(TransformStore.FAMILY, store);
+    }
+
+    private void detachStore(Engine engine) {
+        engine.removeEntityListener(store);
+        store.clear();
     }
 
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
+    public void update(float deltaTime) {
+        if (!usePackedStore) {
+            super.update(deltaTime);
+            return;
+        }
+        store.load();
+        store.integrate(deltaTime);
+        store.storePositions();
+
+        Entity player = registry.getPlayer();
+        if (player != null && vm.get(player) != null) clampToArena(pm.get(player));
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime, CommandBuffer commands) {
         PositionComponent pos = pm.get(entity);
         VelocityComponent vel = vm.get(entity);
 
@@ -23,12 +71,30 @@ public class MovementSystem extends IteratingSystem {
         pos.position.y += vel.velocity.y * deltaTime;
 
         if (entity.getComponent(PlayerComponent.class) != null) {
-            pos.position.x = MathUtils.clamp(pos.position.x,
-                Constants.ARENA_OFFSET_X + Constants.PLAYER_SIZE / 2,
-                Constants.ARENA_OFFSET_X + Constants.ARENA_WIDTH - Constants.PLAYER_SIZE / 2);
-            pos.position.y = MathUtils.clamp(pos.position.y,
-                Constants.ARENA_OFFSET_Y + Constants.PLAYER_SIZE / 2,
-                Constants.ARENA_OFFSET_Y + Constants.ARENA_HEIGHT - Constants.PLAYER_SIZE / 2);
+            clampToArena(pos);
         }
     }
+
+    private void clampToArena(PositionComponent pos) {
+        pos.position.x = MathUtils.clamp(pos.position.x,
+            Constants.ARENA_OFFSET_X + Constants.PLAYER_SIZE / 2,
+            Constants.ARENA_OFFSET_X + Constants.ARENA_WIDTH - Constants.PLAYER_SIZE / 2);
+        pos.position.y = MathUtils.clamp(pos.position.y,
+            Constants.ARENA_OFFSET_Y + Constants.PLAYER_SIZE / 2,
+            Constants.ARENA_OFFSET_Y + Constants.ARENA_HEIGHT - Constants.PLAYER_SIZE / 2);
+    }
+
+    public void setUsePackedStore(boolean value) {
+        if (value == usePackedStore) return;
+        usePackedStore = value;
+        Engine engine = getEngine();
+        if (engine == null) return;
+        if (value) attachStore(engine);
+        else detachStore(engine);
+    }
+
+    public boolean isUsingPackedStore() { return usePackedStore; }
+
+    /** Packed positions and velocities, current after each update when the packed path is on. */
+    public TransformStore getTransformStore() { return store; }
 }
@@ -0,0 +1,144 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Array;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * IteratingSystem that splits its entities into contiguous chunks and processes them on the
+ * common ForkJoin pool, with the calling thread taking the first chunk.
+ *
+ * processEntity may only touch the entity's own components and read shared state that
+ * nothing else writes during the update. Structural changes go through the CommandBuffer
+ * it is handed. Each chunk has its own buffer, and the buffers are flushed on the main
+ * thread in chunk order, so the result is the same as a sequential pass.
+ *
+ * Entities that need the engine or shared state (bosses) can opt out with runsOnMainThread.
+ * They are processed on the main thread after the parallel pass, in entity order, in both modes.
+ *
+ * Run with -Darcane.sequential=true (or call setSequential) to process everything on the
+ * calling thread, e.g. for determinism checks.
+ */
+public abstract class ParallelIteratingSystem extends EntitySystem {
+    public static final String SEQUENTIAL_PROPERTY = "arcane.sequential";
+
+    // Below this many entities per chunk the fork/join overhead outweighs the work
+    public static final int MIN_CHUNK_SIZE = 128;
+
+    private static boolean sequential = Boolean.getBoolean(SEQUENTIAL_PROPERTY);
+
+    private final Family family;
+    private ImmutableArray<Entity> entities;
+    private final Array<Chunk> chunks = new Array<>();
+    private float deltaTime;
+
+    /** One contiguous slice of the entity array; reused every update. */
+    private final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final CommandBuffer commands = new CommandBuffer();
+        final Array<Entity> mainThread = new Array<>(false, 8);
+        int start;
+        int end;
+
+        @Override
+        protected void compute() {
+            for (int i = start; i < end; i++) {
+                Entity entity = entities.get(i);
+                if (runsOnMainThread(entity)) mainThread.add(entity);
+                else processEntity(entity, deltaTime, commands);
+            }
+        }
+    }
+
+    public ParallelIteratingSystem(Family family) {
+        this(family, 0);
+    }
+
+    public ParallelIteratingSystem(Family family, int priority) {
+        super(priority);
+        this.family = family;
+    }
+
+    public static void setSequential(boolean value) { sequential = value; }
+    public static boolean isSequential() { return sequential; }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(family);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        entities = null;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        int count = entities.size();
+        if (count == 0) return;
+        this.deltaTime = deltaTime;
+
+        int chunkCount = 1;
+        if (!sequential) {
+            int maxChunks = ForkJoinPool.commonPool().getParallelism() + 1;
+            chunkCount = Math.max(1, Math.min(maxChunks, count / MIN_CHUNK_SIZE));
+        }
+        while (chunks.size < chunkCount) chunks.add(new Chunk());
+
+        int perChunk = (count + chunkCount - 1) / chunkCount;
+        for (int c = 0; c < chunkCount; c++) {
+            Chunk chunk = chunks.get(c);
+            chunk.start = Math.min(count, c * perChunk);
+            chunk.end = Math.min(count, chunk.start + perChunk);
+        }
+
+        if (chunkCount == 1) {
+            chunks.get(0).compute();
+        } else {
+            for (int c = 1; c < chunkCount; c++) {
+                Chunk chunk = chunks.get(c);
+                chunk.reinitialize();
+                chunk.fork();
+            }
+            chunks.get(0).compute();
+            for (int c = 1; c < chunkCount; c++) chunks.get(c).join();
+        }
+
+        // --- Main thread: opted-out entities, then deferred commands, both in entity order ---
+        for (int c = 0; c < chunkCount; c++) {
+            Chunk chunk = chunks.get(c);
+            for (int i = 0; i < chunk.mainThread.size; i++) {
+                processEntity(chunk.mainThread.get(i), deltaTime, chunk.commands);
+            }
+            chunk.mainThread.clear();
+        }
+        for (int c = 0; c < chunkCount; c++) {
+            chunks.get(c).commands.flush(getEngine());
+        }
+    }
+
+    public ImmutableArray<Entity> getEntities() {
+        return entities;
+    }
+
+    public Family getFamily() {
+        return family;
+    }
+
+    /**
+     * Entities that must not be processed on a worker thread. Called from worker threads,
+     * so it may only read the entity's components.
+     */
+    protected boolean runsOnMainThread(Entity entity) {
+        return false;
+    }
+
+    /** May run on any thread unless runsOnMainThread returned true for the entity. */
+    protected abstract void processEntity(Entity entity, float deltaTime, CommandBuffer commands);
+}
@@ -0,0 +1,204 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.arcane.onslaught.utils.TextureManager;
+
+/**
+ * Cosmetic effects (steam, shatter, heal, poison clouds, explosions, revive) kept out of the ECS.
+ *
+ * Particles live in one interleaved float buffer, STRIDE floats each (see Buffer layout), plus
+ * their effect id. Expired particles are swap-removed, so update and draw are straight loops
+ * with no allocation, and everything is drawn in one SpriteBatch pass after the entity sprites.
+ * Effects therefore always draw over entities; as entities they shared zIndex 10 with enemies
+ * and their order depended on which was spawned first.
+ *
+ * Spawning is limited twice: at most MAX_PARTICLES alive and at most SPAWN_BUDGET new particles
+ * per frame. Anything over either limit is dropped and counted in the stats.
+ *
+ * Without a batch (headless runs) particles still age and expire but are never drawn.
+ */
+public class ParticleSystem extends EntitySystem {
+    public static final int MAX_PARTICLES = 2048;
+    public static final int SPAWN_BUDGET = 256;
+
+    /** Effect presets: texture, fallback colour, tint and rise speed. */
+    public enum Effect {
+        STEAM("vfx_steam", Color.WHITE, Color.WHITE, 50f),
+        SHATTER("vfx_ice_shatter", Color.WHITE, Color.WHITE, 0f),
+        HEAL("effect_heal", Color.WHITE, Color.WHITE, 50f),
+        POISON("effect_poison", Color.WHITE, Color.WHITE, 0f),
+        EXPLOSION("fireball", new Color(1f, 0.4f, 0.1f, 0.6f), Color.ORANGE, 0f),
+        REVIVE("effect_revive", Color.WHITE, Color.GOLD, 0f);
+
+        final String textureKey;
+        final Color tint;
+        final Color fallback;
+        final float riseSpeed;
+
+        Effect(String textureKey, Color tint, Color fallback, float riseSpeed) {
+            this.textureKey = textureKey;
+            this.tint = tint;
+            this.fallback = fallback;
+            this.riseSpeed = riseSpeed;
+        }
+    }
+
+    private static final Effect[] EFFECTS = Effect.values();
+
+    // --- Buffer layout ---
+    private static final int X = 0, Y = 1, VY = 2, SIZE = 3, AGE = 4, LIFETIME = 5;
+    private static final int R = 6, G = 7, B = 8, A = 9;
+    private static final int STRIDE = 10;
+
+    private final float[] data = new float[MAX_PARTICLES * STRIDE];
+    private final int[] effects = new int[MAX_PARTICLES];
+    private int count = 0;
+
+    private final SpriteBatch batch;
+    private final OrthographicCamera camera;
+    private final TextureRegion[] regions = new TextureRegion[EFFECTS.length];
+    private boolean regionsResolved = false;
+    private Texture whitePixel;
+    private TextureRegion whiteRegion;
+
+    // --- Stats ---
+    private int spawnedThisFrame = 0;
+    private int droppedThisFrame = 0;
+    private int lastFrameSpawned = 0;
+    private int lastFrameDropped = 0;
+    private int peak = 0;
+    private long totalSpawned = 0;
+    private long totalDropped = 0;
+
+    /** Headless: particles are tracked and expired but never drawn. */
+    public ParticleSystem() {
+        this(null, null);
+    }
+
+    public ParticleSystem(SpriteBatch batch, OrthographicCamera camera) {
+        this.batch = batch;
+        this.camera = camera;
+    }
+
+    /** One particle of the given effect, centred on (x, y), fading out over duration seconds. */
+    public void spawn(Effect effect, float x, float y, float size, float duration) {
+        if (spawnedThisFrame >= SPAWN_BUDGET || count >= MAX_PARTICLES) {
+            droppedThisFrame++;
+            totalDropped++;
+            return;
+        }
+        spawnedThisFrame++;
+        totalSpawned++;
+
+        int o = count * STRIDE;
+        data[o + X] = x;
+        data[o + Y] = y;
+        data[o + VY] = effect.riseSpeed;
+        data[o + SIZE] = size;
+        data[o + AGE] = 0f;
+        data[o + LIFETIME] = Math.max(0.001f, duration);
+        data[o + R] = effect.tint.r;
+        data[o + G] = effect.tint.g;
+        data[o + B] = effect.tint.b;
+        data[o + A] = effect.tint.a;
+        effects[count] = effect.ordinal();
+        count++;
+        if (count > peak) peak = count;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        float[] data = this.data;
+        int i = 0;
+        while (i < count) {
+            int o = i * STRIDE;
+            float age = data[o + AGE] + deltaTime;
+            if (age >= data[o + LIFETIME]) {
+                // Swap-remove: move the last particle into this slot and look at it next
+                count--;
+                if (i != count) {
+                    System.arraycopy(data, count * STRIDE, data, o, STRIDE);
+                    effects[i] = effects[count];
+                }
+                continue;
+            }
+            data[o + AGE] = age;
+            data[o + Y] += data[o + VY] * deltaTime;
+            i++;
+        }
+
+        if (batch != null && count > 0) draw();
+
+        lastFrameSpawned = spawnedThisFrame;
+        lastFrameDropped = droppedThisFrame;
+        spawnedThisFrame = 0;
+        droppedThisFrame = 0;
+    }
+
+    private void draw() {
+        if (!regionsResolved) resolveRegions();
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        for (int i = 0; i < count; i++) {
+            int o = i * STRIDE;
+            Effect effect = EFFECTS[effects[i]];
+            TextureRegion region = regions[effects[i]];
+            float fade = 1f - data[o + AGE] / data[o + LIFETIME];
+            if (region != null) {
+                batch.setColor(data[o + R], data[o + G], data[o + B], data[o + A] * fade);
+            } else {
+                region = whiteRegion();
+                batch.setColor(effect.fallback.r, effect.fallback.g, effect.fallback.b, effect.fallback.a * fade);
+            }
+            float size = data[o + SIZE];
+            batch.draw(region, data[o + X] - size / 2, data[o + Y] - size / 2, size, size);
+        }
+        batch.setColor(Color.WHITE);
+        batch.end();
+    }
+
+    private void resolveRegions() {
+        TextureManager tm = TextureManager.getInstance();
+        for (int i = 0; i < EFFECTS.length; i++) {
+            regions[i] = tm.hasTexture(EFFECTS[i].textureKey) ? tm.getRegion(EFFECTS[i].textureKey) : null;
+        }
+        regionsResolved = true;
+    }
+
+    // 1x1 white texture for effects whose sprite is missing; tinted with the fallback colour
+    private TextureRegion whiteRegion() {
+        if (whiteRegion == null) {
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.WHITE);
+            pixmap.fill();
+            whitePixel = new Texture(pixmap);
+            pixmap.dispose();
+            whiteRegion = new TextureRegion(whitePixel);
+        }
+        return whiteRegion;
+    }
+
+    // --- Stats ---
+    public int getActiveCount() { return count; }
+    public int getPeakCount() { return peak; }
+    public int getLastFrameSpawned() { return lastFrameSpawned; }
+    public int getLastFrameDropped() { return lastFrameDropped; }
+    public long getTotalSpawned() { return totalSpawned; }
+    public long getTotalDropped() { return totalDropped; }
+
+    public String getStatsSummary() {
+        return "Particles: " + count + " active (peak " + peak + "), " + lastFrameSpawned + " spawned / "
+            + lastFrameDropped + " dropped last frame, " + totalDropped + " dropped of " + totalSpawned + " total";
+    }
+
+    public void dispose() {
+        if (whitePixel != null) whitePixel.dispose();
+    }
+}
@@ -158,7 +158,7 @@ public class PlayerSpawnSystem extends IteratingSystem {
         portalEntity.add(new PositionComponent(playerPos.position.x, playerPos.position.y));
 
         if (tm.hasTexture("magic_circle")) {
-            VisualComponent vis = new VisualComponent(0f, 0f, tm.getTexture("magic_circle"));
+            VisualComponent vis = new VisualComponent(0f, 0f, tm.getRegion("magic_circle"));
             vis.sprite.setOriginCenter();
             vis.zIndex = 0; // --- FLOOR LAYER ---
             portalEntity.add(vis);
@@ -174,7 +174,7 @@ public class PlayerSpawnSystem extends IteratingSystem {
         beamEntity.add(new PositionComponent(playerPos.position.x, playerPos.position.y + 250f));
 
         if (tm.hasTexture("teleport_beam")) {
-            VisualComponent vis = new VisualComponent(0f, 600f, tm.getTexture("teleport_beam"));
+            VisualComponent vis = new VisualComponent(0f, 600f, tm.getRegion("teleport_beam"));
             vis.zIndex = 5; // --- BEHIND PLAYER (10) ---
             beamEntity.add(vis);
         } else {
@@ -0,0 +1,23 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.badlogic.ashley.core.*;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.arcane.onslaught.entities.components.*;
+
+/**
+ * Records every position before the simulation moves anything, so renderers can
+ * interpolate between the previous and current step. Must run before MovementSystem.
+ */
+public class PositionSnapshotSystem extends IteratingSystem {
+    private ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(PositionComponent.class);
+
+    public PositionSnapshotSystem() {
+        super(Family.all(PositionComponent.class).get());
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PositionComponent pos = pm.get(entity);
+        pos.previous.set(pos.position);
+    }
+}
@@ -1,13 +1,12 @@
 package com.arcane.onslaught.entities.systems;
 
 import com.badlogic.ashley.core.*;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.arcane.onslaught.entities.components.*;
 
 /**
  * Handles health regeneration for entities
  */
-public class RegenerationSystem extends IteratingSystem {
+public class RegenerationSystem extends ParallelIteratingSystem {
     private ComponentMapper<RegenerationComponent> regenMapper = ComponentMapper.getFor(RegenerationComponent.class);
     private ComponentMapper<HealthComponent> healthMapper = ComponentMapper.getFor(HealthComponent.class);
 
@@ -16,7 +15,7 @@ public class RegenerationSystem extends IteratingSystem {
     }
 
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
+    protected void processEntity(Entity entity, float deltaTime, CommandBuffer commands) {
         RegenerationComponent regen = regenMapper.get(entity);
         HealthComponent health = healthMapper.get(entity);
 
@@ -0,0 +1,137 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Draw order maintained incrementally instead of re-sorted every frame.
+ * Entities sit in buckets keyed by a sort key; buckets are kept in key order and
+ * entities keep insertion order inside a bucket. Removal leaves a hole that is
+ * compacted the next time the queue is flattened, so add/remove are O(1) and a
+ * frame costs O(n) with no comparisons.
+ */
+public class RenderQueue {
+
+    /** Computes the ordering key for an entity. Lower keys draw first. */
+    public interface SortKey {
+        long keyOf(Entity entity);
+    }
+
+    private static class Bucket {
+        final long key;
+        final Array<Entity> slots = new Array<>(true, 16, Entity[]::new);
+        int holes = 0;
+
+        Bucket(long key) {
+            this.key = key;
+        }
+    }
+
+    private final SortKey sortKey;
+
+    private final Array<Bucket> buckets = new Array<>(); // ascending key
+    private final LongMap<Bucket> bucketsByKey = new LongMap<>();
+
+    // Where each queued entity lives (Entity uses identity equality)
+    private final ObjectMap<Entity, Bucket> bucketOf = new ObjectMap<>();
+    private final ObjectIntMap<Entity> slotOf = new ObjectIntMap<>();
+
+    private final Array<Entity> moved = new Array<>();
+    private int size = 0;
+
+    public RenderQueue(SortKey sortKey) {
+        this.sortKey = sortKey;
+    }
+
+    public void add(Entity entity) {
+        if (bucketOf.containsKey(entity)) return;
+        Bucket bucket = bucketFor(sortKey.keyOf(entity));
+        slotOf.put(entity, bucket.slots.size);
+        bucket.slots.add(entity);
+        bucketOf.put(entity, bucket);
+        size++;
+    }
+
+    public void remove(Entity entity) {
+        Bucket bucket = bucketOf.remove(entity);
+        if (bucket == null) return;
+        int slot = slotOf.remove(entity, -1);
+        bucket.slots.set(slot, null);
+        bucket.holes++;
+        size--;
+    }
+
+    public void clear() {
+        buckets.clear();
+        bucketsByKey.clear();
+        bucketOf.clear();
+        slotOf.clear();
+        size = 0;
+    }
+
+    public int size() { return size; }
+
+    /**
+     * Re-files entities whose key changed since they were queued (e.g. zIndex edited
+     * after spawn), drops holes, and writes the draw order into {@code out}.
+     */
+    public void fill(Array<Entity> out) {
+        out.clear();
+        out.ensureCapacity(size);
+
+        // Pass 1: find stale keys. Rare, so moving them is allowed to be slower.
+        for (int b = 0; b < buckets.size; b++) {
+            Bucket bucket = buckets.get(b);
+            Entity[] slots = bucket.slots.items;
+            for (int i = 0, n = bucket.slots.size; i < n; i++) {
+                Entity entity = slots[i];
+                if (entity != null && sortKey.keyOf(entity) != bucket.key) moved.add(entity);
+            }
+        }
+        for (int i = 0; i < moved.size; i++) {
+            Entity entity = moved.get(i);
+            remove(entity);
+            add(entity);
+        }
+        moved.clear();
+
+        // Pass 2: compact and flatten
+        for (int b = 0; b < buckets.size; b++) {
+            Bucket bucket = buckets.get(b);
+            if (bucket.holes > 0) compact(bucket);
+            out.addAll(bucket.slots);
+        }
+    }
+
+    private void compact(Bucket bucket) {
+        Entity[] slots = bucket.slots.items;
+        int n = bucket.slots.size;
+        int write = 0;
+        for (int read = 0; read < n; read++) {
+            Entity entity = slots[read];
+            if (entity == null) continue;
+            if (write != read) {
+                slots[write] = entity;
+                slotOf.put(entity, write);
+            }
+            write++;
+        }
+        bucket.slots.truncate(write);
+        bucket.holes = 0;
+    }
+
+    private Bucket bucketFor(long key) {
+        Bucket bucket = bucketsByKey.get(key);
+        if (bucket != null) return bucket;
+
+        bucket = new Bucket(key);
+        bucketsByKey.put(key, bucket);
+        int index = 0;
+        while (index < buckets.size && buckets.get(index).key < key) index++;
+        buckets.insert(index, bucket);
+        return bucket;
+    }
+}
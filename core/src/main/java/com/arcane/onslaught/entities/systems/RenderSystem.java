@@ -6,13 +6,15 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.arcane.onslaught.entities.GameEngine;
 import com.arcane.onslaught.entities.components.*;
-import java.util.Comparator;
 
 public class RenderSystem extends IteratingSystem {
     private ShapeRenderer shapeRenderer;
@@ -24,8 +26,21 @@ public class RenderSystem extends IteratingSystem {
     private ComponentMapper<VelocityComponent> vmVel = ComponentMapper.getFor(VelocityComponent.class);
     private ComponentMapper<HealthComponent> hm = ComponentMapper.getFor(HealthComponent.class);
 
+    // Draw order is kept up to date on add/remove; renderQueue is just this frame's flattened copy
+    private final RenderQueue drawOrder;
+    private final EntityListener drawOrderListener;
     private Array<Entity> renderQueue;
-    private Comparator<Entity> comparator;
+
+    // Stable small ids per texture page, so sprites sharing a page are grouped
+    private final ObjectIntMap<Texture> pageIds = new ObjectIntMap<>();
+
+    // --- Batch stats (last frame) ---
+    private int renderCalls = 0;
+    private int textureSwitches = 0;
+    private int spritesDrawn = 0;
+
+    // Blend between the last two simulation steps (1 = latest) when the engine runs a fixed step
+    private float alpha = 1f;
 
     public RenderSystem(ShapeRenderer shapeRenderer, SpriteBatch spriteBatch, OrthographicCamera camera) {
         super(Family.all(PositionComponent.class, VisualComponent.class).get());
@@ -33,24 +48,44 @@ public class RenderSystem extends IteratingSystem {
         this.spriteBatch = spriteBatch;
         this.camera = camera;
 
-        this.renderQueue = new Array<>();
-        this.comparator = new Comparator<Entity>() {
+        this.renderQueue = new Array<>(true, 256, Entity[]::new);
+        this.drawOrder = new RenderQueue(new RenderQueue.SortKey() {
             @Override
-            public int compare(Entity entityA, Entity entityB) {
-                VisualComponent visA = vm.get(entityA);
-                VisualComponent visB = vm.get(entityB);
-                return Integer.compare(visA.zIndex, visB.zIndex);
+            public long keyOf(Entity entity) {
+                VisualComponent visual = vm.get(entity);
+                // zIndex in the high word, page in the low word (shapes = 0)
+                return ((long) visual.zIndex << 32) | ((pageOf(visual) + 1) & 0xFFFFFFFFL);
             }
+        });
+        this.drawOrderListener = new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) { drawOrder.add(entity); }
+
+            @Override
+            public void entityRemoved(Entity entity) { drawOrder.remove(entity); }
         };
     }
 
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        drawOrder.clear();
+        for (Entity entity : getEntities()) drawOrder.add(entity);
+        engine.addEntityListener(getFamily(), drawOrderListener);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        super.removedFromEngine(engine);
+        engine.removeEntityListener(drawOrderListener);
+        drawOrder.clear();
+    }
+
     @Override
     public void update(float deltaTime) {
-        renderQueue.clear();
-        for (Entity entity : getEntities()) {
-            renderQueue.add(entity);
-        }
-        renderQueue.sort(comparator);
+        Engine engine = getEngine();
+        alpha = engine instanceof GameEngine ? ((GameEngine) engine).getInterpolationAlpha() : 1f;
+        drawOrder.fill(renderQueue);
 
         Gdx.gl.glEnable(GL20.GL_BLEND);
         shapeRenderer.setProjectionMatrix(camera.combined);
@@ -73,6 +108,10 @@ public class RenderSystem extends IteratingSystem {
 
         if (spriteBatch.isDrawing()) spriteBatch.end();
 
+        textureSwitches = 0;
+        spritesDrawn = 0;
+        Texture lastTexture = null;
+
         spriteBatch.begin();
         try {
             for (Entity entity : renderQueue) {
@@ -83,22 +122,64 @@ public class RenderSystem extends IteratingSystem {
                 }
 
                 if (visual.useSprite || visual.animation != null) {
+                    Texture texture = textureOf(visual);
+                    if (texture != lastTexture) {
+                        textureSwitches++;
+                        lastTexture = texture;
+                    }
+                    spritesDrawn++;
                     renderSprite(entity, deltaTime);
                 }
             }
         } finally {
             if (spriteBatch.isDrawing()) spriteBatch.end();
+            renderCalls = spriteBatch.renderCalls;
         }
     }
 
+    private Texture textureOf(VisualComponent visual) {
+        if (visual.animation != null) {
+            TextureRegion frame = visual.animation.getKeyFrame(visual.stateTime, visual.isLooping);
+            return frame != null ? frame.getTexture() : null;
+        }
+        return visual.sprite != null ? visual.sprite.getTexture() : null;
+    }
+
+    // Shapes sort before any page; they're drawn in their own pass anyway
+    private int pageOf(VisualComponent visual) {
+        if (!visual.useSprite && visual.animation == null) return -1;
+        Texture texture = textureOf(visual);
+        if (texture == null) return -1;
+        int id = pageIds.get(texture, -1);
+        if (id == -1) {
+            id = pageIds.size;
+            pageIds.put(texture, id);
+        }
+        return id;
+    }
+
+    /** SpriteBatch render calls (GPU draw calls / flushes) issued by the last frame. */
+    public int getRenderCalls() { return renderCalls; }
+    /** Texture changes seen while walking the sorted queue in the last frame. */
+    public int getTextureSwitches() { return textureSwitches; }
+    public int getSpritesDrawn() { return spritesDrawn; }
+
     @Override
     protected void processEntity(Entity entity, float deltaTime) {}
 
+    private float lerpX(PositionComponent pos) {
+        return pos.previous.x + (pos.position.x - pos.previous.x) * alpha;
+    }
+
+    private float lerpY(PositionComponent pos) {
+        return pos.previous.y + (pos.position.y - pos.previous.y) * alpha;
+    }
+
     private void renderShape(Entity entity) {
         PositionComponent pos = pm.get(entity);
         VisualComponent visual = vm.get(entity);
         shapeRenderer.setColor(visual.color);
-        shapeRenderer.rect(pos.position.x - visual.width / 2, pos.position.y - visual.height / 2, visual.width, visual.height);
+        shapeRenderer.rect(lerpX(pos) - visual.width / 2, lerpY(pos) - visual.height / 2, visual.width, visual.height);
     }
 
     private void renderSprite(Entity entity, float deltaTime) {
@@ -107,8 +188,10 @@ public class RenderSystem extends IteratingSystem {
         VelocityComponent vel = vmVel.get(entity);
         HealthComponent health = hm.get(entity);
 
-        float drawX = pos.position.x - visual.width / 2;
-        float drawY = pos.position.y - visual.height / 2;
+        float x = lerpX(pos);
+        float y = lerpY(pos);
+        float drawX = x - visual.width / 2;
+        float drawY = y - visual.height / 2;
         float rotation = 0f;
 
         // 1. Bobbing
@@ -164,8 +247,8 @@ public class RenderSystem extends IteratingSystem {
             float shadowW = visual.width * 0.8f;
             float shadowH = visual.height * 0.25f;
             spriteBatch.draw(region,
-                pos.position.x - shadowW / 2,
-                pos.position.y - visual.height / 2 - 2,
+                x - shadowW / 2,
+                y - visual.height / 2 - 2,
                 shadowW, shadowH
             );
             spriteBatch.setColor(Color.WHITE);
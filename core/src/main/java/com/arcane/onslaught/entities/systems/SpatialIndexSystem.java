@@ -0,0 +1,96 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.arcane.onslaught.entities.components.*;
+import com.arcane.onslaught.spatial.SpatialHashGrid;
+import com.arcane.onslaught.spatial.TargetingService;
+import com.badlogic.ashley.core.*;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * Rebuilds the shared enemy and pickup (XP and health orb) spatial indexes once per frame.
+ * Must be added after movement/AI and before any system that queries it (SpellCastSystem, XPMagnetSystem,
+ * CollisionSystem).
+ */
+public class SpatialIndexSystem extends EntitySystem {
+    public static final float ENEMY_CELL_SIZE = 64f;
+    public static final float PICKUP_CELL_SIZE = 64f;
+
+    private ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(PositionComponent.class);
+    private ComponentMapper<HealthComponent> hm = ComponentMapper.getFor(HealthComponent.class);
+    private ComponentMapper<CollisionComponent> cm = ComponentMapper.getFor(CollisionComponent.class);
+    private ComponentMapper<VisualComponent> vm = ComponentMapper.getFor(VisualComponent.class);
+
+    private final SpatialHashGrid enemyGrid = new SpatialHashGrid(ENEMY_CELL_SIZE);
+    private final TargetingService targeting = new TargetingService(enemyGrid);
+    private final SpatialHashGrid pickupGrid = new SpatialHashGrid(PICKUP_CELL_SIZE);
+    private ImmutableArray<Entity> enemies;
+    private ImmutableArray<Entity> xpOrbs;
+    private ImmutableArray<Entity> healthOrbs;
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        EntityRegistry registry = EntityRegistry.of(engine);
+        enemies = registry.getEnemies();
+        xpOrbs = registry.getXPOrbs();
+        healthOrbs = registry.getHealthOrbs();
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        enemyGrid.clear();
+        pickupGrid.clear();
+        enemies = null;
+        xpOrbs = null;
+        healthOrbs = null;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        enemyGrid.clear();
+        for (int i = 0; i < enemies.size(); ++i) {
+            Entity enemy = enemies.get(i);
+            if (!hm.get(enemy).isAlive()) continue;
+            PositionComponent pos = pm.get(enemy);
+            enemyGrid.add(enemy, pos.position.x, pos.position.y, getEntityRadius(enemy));
+        }
+        enemyGrid.build();
+
+        pickupGrid.clear();
+        addPickups(xpOrbs);
+        addPickups(healthOrbs);
+        pickupGrid.build();
+    }
+
+    private void addPickups(ImmutableArray<Entity> orbs) {
+        for (int i = 0; i < orbs.size(); ++i) {
+            PositionComponent pos = pm.get(orbs.get(i));
+            pickupGrid.add(orbs.get(i), pos.position.x, pos.position.y, 0f);
+        }
+    }
+
+    public SpatialHashGrid getEnemyGrid() {
+        return enemyGrid;
+    }
+
+    /**
+     * XP and health orbs at the start of the step. XPMagnetSystem moves orbs after the rebuild,
+     * by at most XPMagnetSystem.MAGNET_SPEED * deltaTime, so later queries should widen their range by that.
+     */
+    public SpatialHashGrid getPickupGrid() {
+        return pickupGrid;
+    }
+
+    /** Target queries (nearest, k-nearest, strongest, random) over this frame's enemy grid. */
+    public TargetingService getTargeting() {
+        return targeting;
+    }
+
+    // Same fallback as CollisionSystem so the broadphase never misses a narrowphase hit
+    private float getEntityRadius(Entity entity) {
+        CollisionComponent col = cm.get(entity);
+        if (col != null) return col.radius;
+        VisualComponent vis = vm.get(entity);
+        if (vis != null) return Math.min(vis.width, vis.height) / 2.5f;
+        return 10f;
+    }
+}
@@ -5,14 +5,22 @@ import com.badlogic.ashley.core.*;
 import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.math.Vector2;
 import com.arcane.onslaught.entities.components.*;
+import com.arcane.onslaught.spatial.TargetingPolicy;
+import com.arcane.onslaught.spatial.TargetingService;
 import com.arcane.onslaught.spells.Spell;
 import com.arcane.onslaught.spells.SpellManager;
 import com.arcane.onslaught.upgrades.PlayerBuild;
+import com.arcane.onslaught.utils.GameRandom;
 
 public class SpellCastSystem extends IteratingSystem {
     private ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(PositionComponent.class);
     private SpellManager spellManager;
     private PlayerBuild playerBuild;
+    private SpatialIndexSystem spatialIndex;
+
+    // Nearest enemy for the current caster, looked up at most once per frame
+    private Entity nearestEnemy;
+    private boolean nearestResolved;
 
     public SpellCastSystem(SpellManager spellManager, PlayerBuild playerBuild) {
         super(Family.all(PlayerComponent.class, PositionComponent.class).get());
@@ -22,6 +30,7 @@ public class SpellCastSystem extends IteratingSystem {
 
     @Override
     public void update(float deltaTime) {
+        if (spatialIndex == null) spatialIndex = getEngine().getSystem(SpatialIndexSystem.class);
         spellManager.updateAllSpells(deltaTime);
         super.update(deltaTime);
     }
@@ -29,39 +38,40 @@ public class SpellCastSystem extends IteratingSystem {
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         PositionComponent pos = pm.get(entity);
-        Entity nearestEnemy = findNearestEnemy(pos.position);
+        nearestResolved = false;
+        nearestEnemy = null;
+
+        for (Spell spell : spellManager.getActiveSpells()) {
+            if (!spell.canCast()) continue;
 
-        if (nearestEnemy != null) {
-            PositionComponent enemyPos = nearestEnemy.getComponent(PositionComponent.class);
+            Entity target = findTarget(spell, pos.position);
+            if (target == null) continue;
+            PositionComponent enemyPos = pm.get(target);
 
-            for (Spell spell : spellManager.getActiveSpells()) {
-                if (spell.canCast()) {
-                    SoundManager.getInstance().play("cast", 1.0f + (float)Math.random() * 0.2f);
-                    // --- PASS 'entity' (Caster) HERE ---
-                    spell.cast(getEngine(), entity, pos.position, enemyPos.position, playerBuild);
-                    spell.resetCooldown();
-                }
-            }
+            SoundManager.getInstance().play("cast", 1.0f + GameRandom.of(GameRandom.Channel.AUDIO).random(0.2f));
+            // --- PASS 'entity' (Caster) HERE ---
+            spell.cast(getEngine(), entity, pos.position, enemyPos.position, playerBuild);
+            spell.resetCooldown();
         }
+        nearestEnemy = null;
     }
 
-    private Entity findNearestEnemy(Vector2 playerPos) {
-        Entity nearest = null;
-        float minDist = Float.MAX_VALUE;
-        Family enemyFamily = Family.all(EnemyComponent.class, PositionComponent.class, HealthComponent.class).get();
-
-        for (Entity entity : getEngine().getEntitiesFor(enemyFamily)) {
-            HealthComponent health = entity.getComponent(HealthComponent.class);
-            if (health == null || !health.isAlive()) continue;
+    private Entity findTarget(Spell spell, Vector2 from) {
+        TargetingPolicy policy = spell.getTargetingPolicy();
+        float range = spell.getTargetingRange();
+        if (policy != TargetingPolicy.NEAREST || range != TargetingService.UNLIMITED_RANGE) {
+            Entity target = spatialIndex.getTargeting().select(policy, from.x, from.y, range);
+            if (target != null) return target;
+        }
+        return findNearestEnemy(from);
+    }
 
-            PositionComponent pos = entity.getComponent(PositionComponent.class);
-            float dist = playerPos.dst(pos.position);
-            if (dist < minDist) {
-                minDist = dist;
-                nearest = entity;
-            }
+    private Entity findNearestEnemy(Vector2 from) {
+        if (!nearestResolved) {
+            nearestEnemy = spatialIndex.getTargeting().nearest(from.x, from.y, TargetingService.UNLIMITED_RANGE);
+            nearestResolved = true;
         }
-        return nearest;
+        return nearestEnemy;
     }
 
     public SpellManager getSpellManager() { return spellManager; }
@@ -0,0 +1,106 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.badlogic.ashley.core.*;
+import com.arcane.onslaught.entities.components.*;
+
+/**
+ * Ticks every StatusEffectsComponent in one pass: slows rescale max speed, poison and burn deal
+ * damage every tickInterval, and expired slots are cleared in place. Entities with no active
+ * effect cost one mask check.
+ */
+public class StatusEffectSystem extends ParallelIteratingSystem {
+    /** Slows stronger than this also freeze the target (StatusEffect.SHATTER) for the same duration. */
+    public static final float FROZEN_SLOW = 0.5f;
+
+    private ComponentMapper<StatusEffectsComponent> sm = ComponentMapper.getFor(StatusEffectsComponent.class);
+    private ComponentMapper<VelocityComponent> velMapper = ComponentMapper.getFor(VelocityComponent.class);
+    private ComponentMapper<HealthComponent> hm = ComponentMapper.getFor(HealthComponent.class);
+    private ComponentMapper<PositionComponent> posMapper = ComponentMapper.getFor(PositionComponent.class);
+
+    private FloatingTextSystem floatingText;
+
+    // Floating text isn't thread-safe, so the numbers are spawned when the commands flush
+    private final CommandBuffer.Deferred poisonNumber = (engine, entity, amount) ->
+        spawnNumber(entity, amount, FloatingTextSystem.Style.POISON);
+    private final CommandBuffer.Deferred burnNumber = (engine, entity, amount) ->
+        spawnNumber(entity, amount, FloatingTextSystem.Style.BURN);
+
+    public StatusEffectSystem() {
+        super(Family.all(StatusEffectsComponent.class, HealthComponent.class).get());
+    }
+
+    /**
+     * Applies an effect to an entity that has effect slots; no-op (false) for anything else.
+     * Returns true if the effect was not already active. Main thread only.
+     */
+    public boolean apply(Entity entity, StatusEffect effect, float amount, float duration) {
+        StatusEffectsComponent effects = sm.get(entity);
+        if (effects == null) return false;
+
+        if (effect == StatusEffect.SLOW) {
+            VelocityComponent vel = velMapper.get(entity);
+            if (vel == null) return false;
+            if (!effects.has(StatusEffect.SLOW)) effects.baseSpeed = vel.maxSpeed;
+            if (amount > FROZEN_SLOW) effects.apply(StatusEffect.SHATTER, 0f, duration);
+        }
+        return effects.apply(effect, amount, duration);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (floatingText == null) floatingText = getEngine().getSystem(FloatingTextSystem.class);
+        super.update(deltaTime);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime, CommandBuffer commands) {
+        StatusEffectsComponent effects = sm.get(entity);
+        if (effects.activeMask == 0) return;
+
+        if (effects.has(StatusEffect.SLOW)) tickSlow(entity, effects, deltaTime);
+        if (effects.has(StatusEffect.POISON)) tickDamage(entity, effects, StatusEffect.POISON, poisonNumber, deltaTime, commands);
+        if (effects.has(StatusEffect.BURN)) tickDamage(entity, effects, StatusEffect.BURN, burnNumber, deltaTime, commands);
+        if (effects.has(StatusEffect.SHATTER)) {
+            int i = StatusEffect.SHATTER.ordinal();
+            effects.remaining[i] -= deltaTime;
+            if (effects.remaining[i] <= 0) effects.clear(StatusEffect.SHATTER);
+        }
+    }
+
+    private void tickSlow(Entity entity, StatusEffectsComponent effects, float deltaTime) {
+        int i = StatusEffect.SLOW.ordinal();
+        VelocityComponent vel = velMapper.get(entity);
+        effects.remaining[i] -= deltaTime;
+
+        if (effects.remaining[i] <= 0) {
+            if (vel != null) vel.maxSpeed = effects.baseSpeed; // Restore speed
+            effects.clear(StatusEffect.SLOW);
+        } else if (vel != null) {
+            vel.maxSpeed = effects.baseSpeed * (1f - effects.magnitude[i]);
+        }
+    }
+
+    private void tickDamage(Entity entity, StatusEffectsComponent effects, StatusEffect effect,
+                            CommandBuffer.Deferred number, float deltaTime, CommandBuffer commands) {
+        int i = effect.ordinal();
+        effects.remaining[i] -= deltaTime;
+        effects.tickTimer[i] += deltaTime;
+
+        // Damage in chunks (prevents flooding the screen with numbers)
+        if (effects.tickTimer[i] >= effect.tickInterval) {
+            float damage = effects.magnitude[i] * effect.tickInterval;
+            hm.get(entity).damage(damage);
+            effects.tickTimer[i] = 0;
+            commands.call(number, entity, damage);
+        }
+
+        if (effects.remaining[i] <= 0) effects.clear(effect);
+    }
+
+    private void spawnNumber(Entity entity, float amount, FloatingTextSystem.Style style) {
+        PositionComponent pos = posMapper.get(entity);
+        if (pos != null && floatingText != null) {
+            floatingText.spawn(entity, pos.position.x, pos.position.y + 10f, amount, style);
+        }
+    }
+}
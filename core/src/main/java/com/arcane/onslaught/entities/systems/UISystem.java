@@ -28,6 +28,7 @@ public class UISystem extends EntitySystem {
     private ComponentMapper<PlayerComponent> pm = ComponentMapper.getFor(PlayerComponent.class);
 
     private Entity player;
+    private EntityRegistry registry;
 
     // UI Constants
     private final float BAR_X = 20f;
@@ -41,29 +42,36 @@ public class UISystem extends EntitySystem {
     private final float XP_BAR_Y = Constants.SCREEN_HEIGHT - 85f;
     private final float LEVEL_TEXT_Y = Constants.SCREEN_HEIGHT - 15f;
 
+    // Bar gradient colours (shared, never modified)
+    private static final Color HP_HIGH_START = new Color(0f, 0.6f, 0f, 1f);   // Dark Green
+    private static final Color HP_HIGH_END = new Color(0.2f, 1f, 0.2f, 1f);   // Bright Green
+    private static final Color HP_MID_START = new Color(0.8f, 0.6f, 0f, 1f);  // Dark Yellow
+    private static final Color HP_MID_END = new Color(1f, 0.9f, 0.2f, 1f);    // Bright Yellow
+    private static final Color HP_LOW_START = new Color(0.8f, 0f, 0f, 1f);    // Dark Red
+    private static final Color HP_LOW_END = new Color(1f, 0.2f, 0.2f, 1f);    // Bright Red
+    private static final Color XP_START = new Color(0f, 0.4f, 0.8f, 1f);      // Dark Blue
+    private static final Color XP_END = new Color(0f, 0.8f, 1f, 1f);          // Cyan
+
     public UISystem(ShapeRenderer shapeRenderer, OrthographicCamera camera) {
         this.shapeRenderer = shapeRenderer;
         this.camera = camera;
         this.batch = new SpriteBatch();
         this.layout = new GlyphLayout();
 
-        // 1. Load Fonts properly (No scaling!)
-        FontManager.getInstance().load();
-
-        // Generate crisp fonts
-        this.barFont = FontManager.getInstance().generateFont(18, Color.WHITE);
+        // 1. Shared crisp fonts (No scaling!)
+        this.barFont = FontManager.getInstance().acquireFont(18, Color.WHITE);
         // Use a Gold color for the Level Title, Size 32
-        this.levelFont = FontManager.getInstance().generateFont(32, new Color(1f, 0.8f, 0.2f, 1f));
+        this.levelFont = FontManager.getInstance().acquireFont(32, new Color(1f, 0.8f, 0.2f, 1f));
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        registry = EntityRegistry.of(engine);
     }
 
     @Override
     public void update(float deltaTime) {
-        player = null;
-        Family playerFamily = Family.all(PlayerComponent.class).get();
-        for (Entity entity : getEngine().getEntitiesFor(playerFamily)) {
-            player = entity;
-            break;
-        }
+        player = registry.getPlayer();
 
         if (player == null) return;
 
@@ -109,14 +117,14 @@ public class UISystem extends EntitySystem {
         // Determine color based on health status
         Color startColor, endColor;
         if (percent > 0.5f) {
-            startColor = new Color(0f, 0.6f, 0f, 1f); // Dark Green
-            endColor = new Color(0.2f, 1f, 0.2f, 1f); // Bright Green
+            startColor = HP_HIGH_START;
+            endColor = HP_HIGH_END;
         } else if (percent > 0.25f) {
-            startColor = new Color(0.8f, 0.6f, 0f, 1f); // Dark Yellow
-            endColor = new Color(1f, 0.9f, 0.2f, 1f); // Bright Yellow
+            startColor = HP_MID_START;
+            endColor = HP_MID_END;
         } else {
-            startColor = new Color(0.8f, 0f, 0f, 1f); // Dark Red
-            endColor = new Color(1f, 0.2f, 0.2f, 1f); // Bright Red
+            startColor = HP_LOW_START;
+            endColor = HP_LOW_END;
         }
 
         // Draw horizontal gradient rect
@@ -147,8 +155,8 @@ public class UISystem extends EntitySystem {
 
         // 3. Fill (Cyan Gradient)
         if (percent > 0) {
-            Color c1 = new Color(0f, 0.4f, 0.8f, 1f); // Dark Blue
-            Color c2 = new Color(0f, 0.8f, 1f, 1f);   // Cyan
+            Color c1 = XP_START;
+            Color c2 = XP_END;
             shapeRenderer.rect(
                 BAR_X, XP_BAR_Y,
                 BAR_WIDTH * percent, XP_BAR_HEIGHT,
@@ -192,7 +200,9 @@ public class UISystem extends EntitySystem {
 
     public void dispose() {
         batch.dispose();
-        if (barFont != null) barFont.dispose();
-        if (levelFont != null) levelFont.dispose();
+        FontManager.getInstance().releaseFont(barFont);
+        FontManager.getInstance().releaseFont(levelFont);
+        barFont = null;
+        levelFont = null;
     }
 }
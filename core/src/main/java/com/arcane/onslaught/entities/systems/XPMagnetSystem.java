@@ -1,53 +1,62 @@
 package com.arcane.onslaught.entities.systems;
 
 import com.badlogic.ashley.core.*;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.arcane.onslaught.entities.components.*;
 import com.arcane.onslaught.upgrades.PlayerBuild;
 import com.arcane.onslaught.upgrades.UpgradeHelper;
 
 /**
- * Makes XP orbs and health orbs move toward the player when they're nearby
+ * Makes XP orbs and health orbs move toward the player when they're nearby.
+ * Only orbs returned by a radius query on the shared pickup grid are visited.
  */
-public class XPMagnetSystem extends IteratingSystem {
+public class XPMagnetSystem extends EntitySystem {
+    public static final float MAGNET_SPEED = 400f;
+    private static final float BASE_MAGNET_RANGE = 100f;
+
     private ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(PositionComponent.class);
     private PlayerBuild playerBuild;
+    private EntityRegistry registry;
+    private SpatialIndexSystem spatialIndex;
 
-    private Vector2 playerPos = new Vector2();
-    private static final float MAGNET_SPEED = 400f;
-    private static final float BASE_MAGNET_RANGE = 100f;
+    private final Vector2 playerPos = new Vector2();
+    private final Array<Entity> nearbyOrbs = new Array<>(false, 64);
 
     public XPMagnetSystem(PlayerBuild playerBuild) {
-        super(Family.all(PositionComponent.class).one(XPOrbComponent.class, HealthOrbComponent.class).get());
         this.playerBuild = playerBuild;
     }
 
     @Override
-    public void update(float deltaTime) {
-        // Find player position
-        for (Entity entity : getEngine().getEntitiesFor(Family.all(PlayerComponent.class, PositionComponent.class).get())) {
-            PositionComponent pos = pm.get(entity);
-            playerPos.set(pos.position);
-            break;
-        }
-
-        super.update(deltaTime);
+    public void addedToEngine(Engine engine) {
+        registry = EntityRegistry.of(engine);
+        spatialIndex = engine.getSystem(SpatialIndexSystem.class);
     }
 
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
-        PositionComponent pos = pm.get(entity);
-
-        float distance = pos.position.dst(playerPos);
+    public void update(float deltaTime) {
+        Entity player = registry.getPlayer();
+        if (player == null) return;
+        playerPos.set(pm.get(player).position);
 
-        // Apply pickup range multiplier from upgrades
+        // Apply pickup range multiplier from upgrades (once per frame, not per orb)
         float magnetRange = BASE_MAGNET_RANGE * UpgradeHelper.getPickupRangeMultiplier(playerBuild);
 
-        // If player is close enough, pull orb toward them
-        if (distance < magnetRange) {
-            Vector2 direction = new Vector2(playerPos).sub(pos.position).nor();
-            pos.position.add(direction.scl(MAGNET_SPEED * deltaTime));
+        if (spatialIndex == null) spatialIndex = getEngine().getSystem(SpatialIndexSystem.class);
+        spatialIndex.getPickupGrid().query(playerPos.x, playerPos.y, magnetRange, nearbyOrbs);
+
+        for (int i = 0; i < nearbyOrbs.size; ++i) {
+            PositionComponent pos = pm.get(nearbyOrbs.get(i));
+            float dx = playerPos.x - pos.position.x;
+            float dy = playerPos.y - pos.position.y;
+            float dist2 = dx * dx + dy * dy;
+
+            // If player is close enough, pull orb toward them
+            if (dist2 < magnetRange * magnetRange && dist2 > 0f) {
+                float step = MAGNET_SPEED * deltaTime / (float) Math.sqrt(dist2);
+                pos.position.add(dx * step, dy * step);
+            }
         }
+        nearbyOrbs.clear();
     }
 }
@@ -0,0 +1,59 @@
+package com.arcane.onslaught.entities.systems;
+
+import com.badlogic.ashley.core.*;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.arcane.onslaught.entities.components.*;
+import com.arcane.onslaught.utils.Constants;
+
+/**
+ * Consolidates XP orbs once more than XP_ORB_MERGE_THRESHOLD are on the floor: orbs sharing an
+ * XP_ORB_MERGE_RADIUS cell fold their XP into the first orb of that cell, which keeps its position.
+ * Total XP is unchanged. Runs every MERGE_INTERVAL seconds, after CollisionSystem.
+ */
+public class XPOrbMergeSystem extends EntitySystem {
+    private static final float MERGE_INTERVAL = 0.5f;
+
+    private ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(PositionComponent.class);
+    private ComponentMapper<XPOrbComponent> xm = ComponentMapper.getFor(XPOrbComponent.class);
+
+    private ImmutableArray<Entity> xpOrbs;
+    private final LongMap<XPOrbComponent> cellOwners = new LongMap<>(256);
+    private float timer = 0f;
+    private int merged = 0;
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        xpOrbs = EntityRegistry.of(engine).getXPOrbs();
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        timer += deltaTime;
+        if (timer < MERGE_INTERVAL) return;
+        timer = 0f;
+        if (xpOrbs.size() <= Constants.XP_ORB_MERGE_THRESHOLD) return;
+
+        float invCell = 1f / Constants.XP_ORB_MERGE_RADIUS;
+        for (int i = 0; i < xpOrbs.size(); ++i) {
+            Entity orb = xpOrbs.get(i);
+            PositionComponent pos = pm.get(orb);
+            long cx = (long) Math.floor(pos.position.x * invCell);
+            long cy = (long) Math.floor(pos.position.y * invCell);
+            long key = (cx << 32) ^ (cy & 0xffffffffL);
+
+            XPOrbComponent owner = cellOwners.get(key);
+            if (owner == null) {
+                cellOwners.put(key, xm.get(orb));
+            } else {
+                owner.xpValue += xm.get(orb).xpValue;
+                getEngine().removeEntity(orb);
+                merged++;
+            }
+        }
+        cellOwners.clear();
+    }
+
+    /** Orbs folded into another since the system was created. */
+    public int getMergedCount() { return merged; }
+}
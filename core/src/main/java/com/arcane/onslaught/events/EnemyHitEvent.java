@@ -0,0 +1,32 @@
+package com.arcane.onslaught.events;
+
+/**
+ * Damage dealt to an enemy by a projectile or explosion. Pooled; see EventManager.
+ * Carries copies only: by the time queued events drain, a killed enemy's entity has already
+ * been removed and may be reused.
+ */
+public class EnemyHitEvent extends Event {
+    public float damage;
+    public boolean critical;
+    public boolean explosion;
+    public float x, y;
+
+    public EnemyHitEvent init(float damage, boolean critical, boolean explosion, float x, float y) {
+        this.damage = damage;
+        this.critical = critical;
+        this.explosion = explosion;
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        damage = 0;
+        critical = false;
+        explosion = false;
+        x = 0;
+        y = 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.arcane.onslaught.events;
+
+/**
+ * An enemy died. Carries copies only: by the time queued events are drained the entity has
+ * been removed, its components returned to the pools, and the entity may already be reused.
+ */
+public class EnemyKilledEvent extends Event {
+    public String enemyType;
+    public float xpDropped;
+    public float x, y;
+
+    public EnemyKilledEvent init(String enemyType, float xpDropped, float x, float y) {
+        this.enemyType = enemyType;
+        this.xpDropped = xpDropped;
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        enemyType = null;
+        xpDropped = 0;
+        x = 0;
+        y = 0;
+    }
+}
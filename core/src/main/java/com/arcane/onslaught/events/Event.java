@@ -1,11 +1,16 @@
 package com.arcane.onslaught.events;
 
+import com.badlogic.gdx.utils.Pool;
+
 /**
  * Base Event class - all game events extend this
  */
-public abstract class Event {
+public abstract class Event implements Pool.Poolable {
     private boolean handled = false;
 
+    // Set while the event is on loan from EventManager.obtain
+    boolean pooled = false;
+
     public boolean isHandled() {
         return handled;
     }
@@ -13,4 +18,10 @@ public abstract class Event {
     public void setHandled(boolean handled) {
         this.handled = handled;
     }
+
+    /** Pooled events override this to clear their fields; call super. */
+    @Override
+    public void reset() {
+        handled = false;
+    }
 }
@@ -1,46 +1,180 @@
 package com.arcane.onslaught.events;
 
-import java.util.*;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Event bus keyed by concrete event class.
+ *
+ * Each event type keeps its listeners in a copy-on-write array. Subscribing swaps in a new
+ * array; publishing reads the current one without locking or allocating, so listeners may
+ * subscribe, unsubscribe or publish from any thread. Listeners run on the publishing thread.
+ *
+ * High-frequency events should be obtained from the pool and enqueued. The queue is drained
+ * once per simulation step (EventDispatchSystem), and pooled events are freed after dispatch,
+ * so listeners must copy anything they need rather than keep the event.
+ */
 public class EventManager {
-    private static EventManager instance;
-    private Map<Class<? extends Event>, List<EventListener>> listeners;
+    // Created eagerly so getInstance() is safe from any thread
+    private static final EventManager instance = new EventManager();
 
-    private EventManager() {
-        listeners = new HashMap<>();
+    private static final EventListener<?>[] NO_LISTENERS = new EventListener<?>[0];
+
+    /** Listener snapshot for one event type. */
+    private static class Channel {
+        volatile EventListener<?>[] listeners = NO_LISTENERS;
     }
 
+    private final ConcurrentHashMap<Class<? extends Event>, Channel> channels = new ConcurrentHashMap<>();
+
+    // Queued mode: enqueue adds to one array, drain swaps it out and dispatches the other
+    private final Object queueLock = new Object();
+    private Array<Event> queued = new Array<>(false, 64);
+    private Array<Event> draining = new Array<>(false, 64);
+
+    // One pool per pooled event type, guarded by poolLock
+    private final Object poolLock = new Object();
+    private final ObjectMap<Class<? extends Event>, Pool<? extends Event>> pools = new ObjectMap<>();
+
+    private EventManager() {}
+
     public static EventManager getInstance() {
-        if (instance == null) {
-            instance = new EventManager();
-        }
         return instance;
     }
 
     public <T extends Event> void subscribe(Class<T> eventType, EventListener<T> listener) {
-        listeners.computeIfAbsent(eventType, k -> new ArrayList<>()).add(listener);
+        Channel channel = channels.computeIfAbsent(eventType, k -> new Channel());
+        synchronized (channel) {
+            EventListener<?>[] current = channel.listeners;
+            EventListener<?>[] next = new EventListener<?>[current.length + 1];
+            System.arraycopy(current, 0, next, 0, current.length);
+            next[current.length] = listener;
+            channel.listeners = next;
+        }
     }
 
     public <T extends Event> void unsubscribe(Class<T> eventType, EventListener<T> listener) {
-        List<EventListener> eventListeners = listeners.get(eventType);
-        if (eventListeners != null) {
-            eventListeners.remove(listener);
+        Channel channel = channels.get(eventType);
+        if (channel == null) return;
+        synchronized (channel) {
+            EventListener<?>[] current = channel.listeners;
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == listener) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) return;
+            EventListener<?>[] next = new EventListener<?>[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            channel.listeners = next;
         }
     }
 
-    @SuppressWarnings("unchecked")
+    /** True if anyone listens for this exact type; lets callers skip building events nobody reads. */
+    public boolean hasSubscribers(Class<? extends Event> eventType) {
+        Channel channel = channels.get(eventType);
+        return channel != null && channel.listeners.length > 0;
+    }
+
+    /** Dispatches immediately on the calling thread. Pooled events are freed afterwards. */
     public <T extends Event> void publish(T event) {
-        List<EventListener> eventListeners = listeners.get(event.getClass());
-        if (eventListeners != null) {
-            for (EventListener listener : new ArrayList<>(eventListeners)) {
-                if (!event.isHandled()) {
-                    listener.onEvent(event);
+        dispatch(event);
+        release(event);
+    }
+
+    /** Buffers the event until the next drain(). Safe from any thread. */
+    public void enqueue(Event event) {
+        synchronized (queueLock) {
+            queued.add(event);
+        }
+    }
+
+    /**
+     * Dispatches everything enqueued so far, in order, then frees pooled events.
+     * Events enqueued by listeners during the drain wait for the next one.
+     */
+    public void drain() {
+        Array<Event> batch;
+        synchronized (queueLock) {
+            if (queued.size == 0) return;
+            batch = queued;
+            queued = draining;
+            draining = batch;
+        }
+        for (int i = 0; i < batch.size; i++) {
+            Event event = batch.get(i);
+            dispatch(event);
+            release(event);
+        }
+        batch.clear();
+    }
+
+    /** A reset event from the type's pool; it goes back to the pool once published or drained. */
+    public <T extends Event> T obtain(Class<T> eventType) {
+        T event;
+        synchronized (poolLock) {
+            event = poolFor(eventType).obtain();
+        }
+        event.pooled = true;
+        return event;
+    }
+
+    // Caller holds poolLock
+    @SuppressWarnings("unchecked")
+    private <T extends Event> Pool<T> poolFor(final Class<T> eventType) {
+        Pool<T> pool = (Pool<T>) pools.get(eventType);
+        if (pool == null) {
+            pool = new Pool<T>() {
+                @Override
+                protected T newObject() {
+                    try {
+                        return ClassReflection.newInstance(eventType);
+                    } catch (ReflectionException e) {
+                        throw new GdxRuntimeException("Pooled event needs a no-arg constructor: " + eventType.getName(), e);
+                    }
                 }
-            }
+            };
+            pools.put(eventType, pool);
         }
+        return pool;
     }
 
+    @SuppressWarnings("unchecked")
+    private void dispatch(Event event) {
+        Channel channel = channels.get(event.getClass());
+        if (channel == null) return;
+        EventListener<?>[] snapshot = channel.listeners;
+        for (int i = 0; i < snapshot.length; i++) {
+            if (event.isHandled()) break;
+            // Channels are keyed by the event's exact class, so every listener accepts it
+            ((EventListener<Event>) snapshot[i]).onEvent(event);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void release(Event event) {
+        if (!event.pooled) return;
+        event.pooled = false;
+        synchronized (poolLock) {
+            Pool<Event> pool = (Pool<Event>) pools.get(event.getClass());
+            pool.free(event);
+        }
+    }
+
+    /** Drops all listeners and any queued events. */
     public void clear() {
-        listeners.clear();
+        channels.clear();
+        synchronized (queueLock) {
+            for (int i = 0; i < queued.size; i++) release(queued.get(i));
+            queued.clear();
+        }
     }
 }
@@ -0,0 +1,27 @@
+package com.arcane.onslaught.events;
+
+/** The player collected an orb. Pooled; see EventManager. */
+public class PickupEvent extends Event {
+    public enum PickupType { XP, HEALTH }
+
+    public PickupType type;
+    public float amount;
+    public float x, y;
+
+    public PickupEvent init(PickupType type, float amount, float x, float y) {
+        this.type = type;
+        this.amount = amount;
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        type = null;
+        amount = 0;
+        x = 0;
+        y = 0;
+    }
+}
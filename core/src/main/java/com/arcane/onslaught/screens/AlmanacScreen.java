@@ -4,20 +4,18 @@ import com.arcane.onslaught.utils.AlmanacData;
 import com.arcane.onslaught.utils.AlmanacData.Category;
 import com.arcane.onslaught.utils.AlmanacData.Entry;
 import com.arcane.onslaught.utils.Constants;
+import com.arcane.onslaught.utils.FontManager;
 import com.arcane.onslaught.utils.SoundManager;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -38,6 +36,7 @@ public class AlmanacScreen implements Screen {
     // Scene2D
     private Stage stage;
     private Skin skin;
+    private BitmapFont titleFont, headerFont, textFont, loreFont;
     private Table contentTable;
     private Map<Category, TextButton> categoryButtons;
 
@@ -105,11 +104,12 @@ public class AlmanacScreen implements Screen {
         skin.add("bg_highlight", createDrawable(new Color(0.3f, 0.6f, 1f, 0.3f)), Drawable.class);
         // -----------------------------------------------------------
 
-        // Generate Fonts
-        BitmapFont titleFont = generateFont("fonts/DungeonFont.ttf", 60, Color.GOLD);
-        BitmapFont headerFont = generateFont("fonts/Silver.ttf", 40, Color.CYAN);
-        BitmapFont textFont = generateFont("fonts/Silver.ttf", 32, Color.WHITE);
-        BitmapFont loreFont = generateFont("fonts/Silver.ttf", 28, new Color(0.7f, 0.7f, 0.8f, 1f));
+        // Shared fonts (thinner outline than the other screens)
+        FontManager fonts = FontManager.getInstance();
+        titleFont = fonts.acquireTintedFont(FontManager.TITLE_FONT, 60, Color.GOLD, 1, 2);
+        headerFont = fonts.acquireTintedFont(FontManager.DEFAULT_FONT, 40, Color.CYAN, 1, 2);
+        textFont = fonts.acquireTintedFont(FontManager.DEFAULT_FONT, 32, Color.WHITE, 1, 2);
+        loreFont = fonts.acquireTintedFont(FontManager.DEFAULT_FONT, 28, new Color(0.7f, 0.7f, 0.8f, 1f), 1, 2);
 
         skin.add("title", new Label.LabelStyle(titleFont, Color.GOLD));
         skin.add("header", new Label.LabelStyle(headerFont, Color.CYAN));
@@ -241,31 +241,6 @@ public class AlmanacScreen implements Screen {
         }
     }
 
-    private BitmapFont generateFont(String path, int size, Color color) {
-        FileHandle file = Gdx.files.internal(path);
-        BitmapFont font;
-        if (file.exists()) {
-            try {
-                FreeTypeFontGenerator generator = new FreeTypeFontGenerator(file);
-                FreeTypeFontParameter parameter = new FreeTypeFontParameter();
-                parameter.size = size;
-                parameter.borderWidth = 1;
-                parameter.borderColor = Color.BLACK;
-                parameter.shadowOffsetX = 2;
-                parameter.shadowOffsetY = 2;
-                parameter.shadowColor = new Color(0, 0, 0, 0.5f);
-                font = generator.generateFont(parameter);
-                generator.dispose();
-            } catch (Exception e) {
-                font = new BitmapFont();
-            }
-        } else {
-            font = new BitmapFont();
-        }
-        font.setColor(color);
-        return font;
-    }
-
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.05f, 0.05f, 0.15f, 1);
@@ -295,7 +270,15 @@ public class AlmanacScreen implements Screen {
     @Override public void resize(int width, int height) { stage.getViewport().update(width, height, true); }
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
+    @Override
+    public void hide() {
+        FontManager fonts = FontManager.getInstance();
+        fonts.releaseFont(titleFont);
+        fonts.releaseFont(headerFont);
+        fonts.releaseFont(textFont);
+        fonts.releaseFont(loreFont);
+        titleFont = headerFont = textFont = loreFont = null;
+    }
 
     @Override
     public void dispose() {
@@ -303,5 +286,6 @@ public class AlmanacScreen implements Screen {
         if (batch != null) batch.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
         if (skin != null) skin.dispose();
+        hide();
     }
 }
@@ -63,11 +63,10 @@ public class GameOverScreen implements Screen {
         layout = new GlyphLayout();
         touchPoint = new Vector3();
 
-        FontManager.getInstance().load();
-        titleFont = FontManager.getInstance().generateFont(80, Color.RED);
-        statFont = FontManager.getInstance().generateFont(40, Color.GOLD);
-        font = FontManager.getInstance().generateFont(32, Color.WHITE);
-        scoreFont = FontManager.getInstance().generateFont(32, Color.YELLOW);
+        titleFont = FontManager.getInstance().acquireFont(80, Color.RED);
+        statFont = FontManager.getInstance().acquireFont(40, Color.GOLD);
+        font = FontManager.getInstance().acquireFont(32, Color.WHITE);
+        scoreFont = FontManager.getInstance().acquireFont(32, Color.YELLOW);
 
         float centerX = Constants.SCREEN_WIDTH / 2f;
         float centerY = Constants.SCREEN_HEIGHT / 2f;
@@ -212,6 +211,16 @@ public class GameOverScreen implements Screen {
     @Override public void resize(int width, int height) { viewport.update(width, height, true); }
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
-    @Override public void dispose() { batch.dispose(); shapeRenderer.dispose(); if (titleFont != null) titleFont.dispose(); if (statFont != null) statFont.dispose(); if (font != null) font.dispose(); if (scoreFont != null) scoreFont.dispose(); }
+    @Override public void hide() { releaseFonts(); }
+    @Override public void dispose() { batch.dispose(); shapeRenderer.dispose(); releaseFonts(); }
+
+    // Shared fonts go back to FontManager; the next screen usually picks them straight up again
+    private void releaseFonts() {
+        FontManager fonts = FontManager.getInstance();
+        fonts.releaseFont(titleFont);
+        fonts.releaseFont(statFont);
+        fonts.releaseFont(font);
+        fonts.releaseFont(scoreFont);
+        titleFont = statFont = font = scoreFont = null;
+    }
 }
@@ -1,6 +1,5 @@
 package com.arcane.onslaught.screens;
 
-import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
@@ -13,8 +12,13 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.arcane.onslaught.debug.FrameProfiler;
+import com.arcane.onslaught.debug.ProfilerOverlay;
+import com.arcane.onslaught.entities.GameEngine;
+import com.arcane.onslaught.entities.GameWorld;
 import com.arcane.onslaught.entities.components.*;
 import com.arcane.onslaught.entities.systems.*;
 import com.arcane.onslaught.events.EventManager;
@@ -30,7 +34,7 @@ import com.badlogic.gdx.graphics.g2d.NinePatch;
 public class GameScreen implements Screen {
 
     private Game game;
-    private Engine engine;
+    private GameEngine engine;
     private OrthographicCamera camera;
     private Viewport viewport;
     private ShapeRenderer shapeRenderer;
@@ -53,8 +57,12 @@ public class GameScreen implements Screen {
     private float pulseTimer = 0f;
 
     private DebugRenderSystem debugSystem;
+    private FrameProfiler profiler;
+    private ProfilerOverlay profilerOverlay;
     private BitmapFont hudFont;
 
+    private static int runsStarted = 0;
+
     public GameScreen(Game game) {
         this.game = game;
     }
@@ -62,15 +70,15 @@ public class GameScreen implements Screen {
     @Override
     public void show() {
         if (engine != null) return;
+        long showStart = TimeUtils.millis();
 
-        TextureManager.getInstance().loadTextures();
+        // Normally already loaded behind the menu; blocks only if a screen skipped the loading screen
+        AssetLoader.getInstance().finishLoading(AssetLoader.Stage.GAMEPLAY);
         Texture borderTex = TextureManager.getInstance().getTexture("border");
         if (borderTex != null) {
             borderPatch = new NinePatch(borderTex, 80, 80, 80, 80);
         }
 
-        SoundManager.getInstance().loadSounds();
-        FontManager.getInstance().load();
 
         SoundManager.getInstance().playMusic("abyss");
 
@@ -85,9 +93,14 @@ public class GameScreen implements Screen {
         damageBatch = new SpriteBatch();
         uiBatch = new SpriteBatch();
 
-        hudFont = FontManager.getInstance().generateFont(32, Color.WHITE);
+        hudFont = FontManager.getInstance().acquireFont(32, Color.WHITE);
 
-        engine = new Engine();
+        GameRandom.getInstance().newRun();
+        engine = new GameEngine();
+        engine.setFixedStep(true);
+        profiler = new FrameProfiler();
+        engine.setProfiler(profiler);
+        profilerOverlay = new ProfilerOverlay(profiler);
         spellManager = new SpellManager();
         enemyFactory = new EnemyFactory();
         upgradePool = new UpgradePool();
@@ -96,58 +109,28 @@ public class GameScreen implements Screen {
         inputProcessor = new GameInputProcessor();
         Gdx.input.setInputProcessor(inputProcessor);
 
-        engine.addSystem(new PlayerInputSystem(inputProcessor));
-        engine.addSystem(new MovementSystem());
-        engine.addSystem(new AISystem(enemyFactory));
-        engine.addSystem(new SpellCastSystem(spellManager, playerBuild));
-        engine.addSystem(new ProjectileSystem());
-        engine.addSystem(new EnemySpawnSystem(enemyFactory));
-        engine.addSystem(new XPMagnetSystem(playerBuild));
-        engine.addSystem(new PoisonSystem());
-        engine.addSystem(new SlowSystem());
-        engine.addSystem(new RegenerationSystem());
-        engine.addSystem(new CollisionSystem(playerBuild));
+        GameWorld.addSimulationSystems(engine, inputProcessor, spellManager, playerBuild, enemyFactory);
 
-        engine.addSystem(new RenderSystem(shapeRenderer, mainBatch, camera));
+        // Frame systems: run once per rendered frame, not on the fixed simulation step
+        engine.addFrameSystem(new RenderSystem(shapeRenderer, mainBatch, camera));
+        engine.addFrameSystem(new ParticleSystem(mainBatch, camera));
 
         debugSystem = new DebugRenderSystem(camera, shapeRenderer);
-        engine.addSystem(debugSystem);
-
-        engine.addSystem(new LifetimeSystem());
-        engine.addSystem(new RotationSystem());
-        engine.addSystem(new PlayerSpawnSystem());
-
-        engine.addSystem(new UISystem(shapeRenderer, camera));
-        engine.addSystem(new DamageIndicatorSystem(damageBatch, camera));
+        engine.addFrameSystem(debugSystem);
+        engine.addFrameSystem(new UISystem(shapeRenderer, camera));
+        engine.addFrameSystem(new FloatingTextSystem(damageBatch, camera));
 
         createPlayer();
         setupEventListeners();
+
+        // The first run of the process is the cold start; later ones reuse everything resident
+        System.out.println("GameScreen ready in " + TimeUtils.timeSinceMillis(showStart) + " ms ("
+            + (runsStarted++ == 0 ? "cold" : "warm") + " start, gameplay assets ready "
+            + AssetLoader.getInstance().getReadyMillis(AssetLoader.Stage.GAMEPLAY) + " ms after launch)");
     }
 
     private void createPlayer() {
-        player = new Entity();
-        float startX = Constants.SCREEN_WIDTH / 2f;
-        float startY = Constants.SCREEN_HEIGHT / 2f;
-        player.add(new PositionComponent(startX, startY));
-        player.add(new VelocityComponent(Constants.PLAYER_SPEED));
-        TextureManager tm = TextureManager.getInstance();
-        if (tm.hasTexture("player")) {
-            player.add(new VisualComponent(Constants.PLAYER_SIZE * 2f, Constants.PLAYER_SIZE * 2f, tm.getTexture("player")));
-        } else {
-            player.add(new VisualComponent(Constants.PLAYER_SIZE, Constants.PLAYER_SIZE, Color.CYAN));
-        }
-        player.add(new SpawningComponent(2.0f));
-        VisualComponent vis = player.getComponent(VisualComponent.class);
-        vis.isBobbing = true;
-        if (vis != null && vis.sprite != null) vis.sprite.setAlpha(0f);
-        player.add(new CollisionComponent(8f, (short)0, (short)0));
-        player.add(new HealthComponent(Constants.PLAYER_MAX_HEALTH));
-        PlayerComponent pc = new PlayerComponent();
-        pc.xp = 0;
-        pc.xpToNextLevel = Constants.XP_TO_LEVEL_BASE;
-        pc.level = 1;
-        player.add(pc);
-        engine.addEntity(player);
+        player = GameWorld.createPlayer(engine);
     }
 
     private void setupEventListeners() {
@@ -157,6 +140,7 @@ public class GameScreen implements Screen {
         em.subscribe(GameOverEvent.class, event -> {
             if (!isGameOver) {
                 isGameOver = true;
+                engine.requestStop();
                 // Check and Save Highscore
                 boolean isNewRecord = HighscoreManager.checkAndSave(event.getFinalLevel(), event.getSurvivalTime());
                 // Pass record status to screen
@@ -188,6 +172,29 @@ public class GameScreen implements Screen {
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
             debugSystem.isDebugMode = !debugSystem.isDebugMode;
+            if (debugSystem.isDebugMode) {
+                RenderSystem render = engine.getSystem(RenderSystem.class);
+                System.out.println(engine.getStatsSummary());
+                System.out.println("Render: " + render.getSpritesDrawn() + " sprites, "
+                    + render.getRenderCalls() + " batch flushes, " + render.getTextureSwitches() + " texture switches");
+                System.out.println(engine.getSystem(ParticleSystem.class).getStatsSummary());
+                System.out.println(FontManager.getInstance().getStatsSummary());
+                AISystem ai = engine.getSystem(AISystem.class);
+                System.out.println("AI: " + ai.getLastUpdatedCount() + " updated, " + ai.getLastSkippedCount()
+                    + " skipped by level of detail last step");
+            }
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            profilerOverlay.visible = !profilerOverlay.visible;
+            profiler.setEnabled(profilerOverlay.visible);
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F6)) {
+            if (profiler.isRecording()) {
+                profiler.stopRecording();
+            } else {
+                String stamp = new java.text.SimpleDateFormat("yyyyMMdd-HHmmss").format(new java.util.Date());
+                profiler.startRecording(Gdx.files.local("profiles/frames-" + stamp + ".csv"));
+            }
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.TAB)) {
             game.setScreen(new StatsScreen(game, this, player, playerBuild, spellManager));
@@ -231,6 +238,7 @@ public class GameScreen implements Screen {
         }
 
         drawHUD();
+        profilerOverlay.draw(uiBatch, shapeRenderer, camera);
 
         if (!isGameOver) {
             HealthComponent health = player.getComponent(HealthComponent.class);
@@ -269,14 +277,9 @@ public class GameScreen implements Screen {
     }
 
     private void spawnReviveEffect() {
-        Entity effect = new Entity();
         PositionComponent playerPos = player.getComponent(PositionComponent.class);
-        effect.add(new PositionComponent(playerPos.position.x, playerPos.position.y));
-        TextureManager tm = TextureManager.getInstance();
-        if (tm.hasTexture("effect_revive")) effect.add(new VisualComponent(300f, 300f, tm.getTexture("effect_revive")));
-        else effect.add(new VisualComponent(300f, 300f, Color.GOLD));
-        effect.add(new LifetimeComponent(1.0f));
-        engine.addEntity(effect);
+        engine.getSystem(ParticleSystem.class).spawn(ParticleSystem.Effect.REVIVE,
+            playerPos.position.x, playerPos.position.y, 300f, 1.0f);
     }
 
     private void drawBackground() {
@@ -320,6 +323,8 @@ public class GameScreen implements Screen {
     private void showUpgradeScreen() {
         java.util.List<Upgrade> upgrades = upgradePool.getRandomUpgrades(playerBuild, spellManager, 5);
         if (!upgrades.isEmpty()) {
+            // Published mid-step; no more steps this frame behind the upgrade screen
+            engine.requestStop();
             game.setScreen(new UpgradeScreen(game, this, upgrades));
         }
     }
@@ -329,7 +334,7 @@ public class GameScreen implements Screen {
         playerBuild.addUpgrade(upgrade);
     }
 
-    public Engine getEngine() {
+    public GameEngine getEngine() {
         return engine;
     }
 
@@ -348,13 +353,16 @@ public class GameScreen implements Screen {
         mainBatch.dispose();
         damageBatch.dispose();
         uiBatch.dispose();
-        if (hudFont != null) hudFont.dispose();
-        TextureManager.getInstance().dispose();
-        SoundManager.getInstance().dispose();
+        FontManager.getInstance().releaseFont(hudFont);
+        hudFont = null;
+        if (profilerOverlay != null) profilerOverlay.dispose();
+        if (profiler != null) profiler.detach();
+        // Textures and sounds stay loaded for the next run; the game releases them on exit
         SoundManager.getInstance().stopMusic();
 
         if (engine.getSystem(UISystem.class) != null) engine.getSystem(UISystem.class).dispose();
-        if (engine.getSystem(DamageIndicatorSystem.class) != null) engine.getSystem(DamageIndicatorSystem.class).dispose();
+        if (engine.getSystem(FloatingTextSystem.class) != null) engine.getSystem(FloatingTextSystem.class).dispose();
+        if (engine.getSystem(ParticleSystem.class) != null) engine.getSystem(ParticleSystem.class).dispose();
 
         EventManager.getInstance().clear();
     }
@@ -0,0 +1,121 @@
+package com.arcane.onslaught.screens;
+
+import com.arcane.onslaught.utils.AssetLoader;
+import com.arcane.onslaught.utils.Constants;
+import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * Shows a progress bar until an AssetLoader stage is ready, then switches to the next screen.
+ * Uses libGDX's built-in font, since the game fonts may not be loaded yet.
+ */
+public class LoadingScreen implements Screen {
+    // While this screen is up there's nothing else to draw, so loading gets most of the frame
+    private static final int LOADING_BUDGET_MS = 12;
+    private static final float BAR_WIDTH = 500f;
+    private static final float BAR_HEIGHT = 24f;
+
+    private final Game game;
+    private final AssetLoader.Stage stage;
+    private final Screen next;
+
+    private OrthographicCamera camera;
+    private Viewport viewport;
+    private SpriteBatch batch;
+    private ShapeRenderer shapeRenderer;
+    private BitmapFont font;
+    private GlyphLayout layout;
+    private long shownAt;
+
+    /** Returns next if the stage is already loaded, otherwise a loading screen leading to it. */
+    public static Screen before(Game game, AssetLoader.Stage stage, Screen next) {
+        return AssetLoader.getInstance().isReady(stage) ? next : new LoadingScreen(game, stage, next);
+    }
+
+    public LoadingScreen(Game game, AssetLoader.Stage stage, Screen next) {
+        this.game = game;
+        this.stage = stage;
+        this.next = next;
+    }
+
+    @Override
+    public void show() {
+        camera = new OrthographicCamera();
+        viewport = new FitViewport(Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT, camera);
+        viewport.apply();
+        camera.position.set(Constants.SCREEN_WIDTH / 2f, Constants.SCREEN_HEIGHT / 2f, 0);
+        camera.update();
+
+        batch = new SpriteBatch();
+        shapeRenderer = new ShapeRenderer();
+        font = new BitmapFont();
+        font.getData().setScale(2f);
+        layout = new GlyphLayout();
+        shownAt = TimeUtils.millis();
+    }
+
+    @Override
+    public void render(float delta) {
+        AssetLoader loader = AssetLoader.getInstance();
+        if (loader.update(LOADING_BUDGET_MS) || loader.isReady(stage)) {
+            System.out.println("Loading screen: waited " + TimeUtils.timeSinceMillis(shownAt) + " ms for " + stage);
+            game.setScreen(next);
+            return;
+        }
+
+        Gdx.gl.glClearColor(0.05f, 0.05f, 0.1f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        camera.update();
+
+        float x = (Constants.SCREEN_WIDTH - BAR_WIDTH) / 2f;
+        float y = Constants.SCREEN_HEIGHT / 2f - BAR_HEIGHT / 2f;
+        float progress = loader.getProgress(stage);
+
+        shapeRenderer.setProjectionMatrix(camera.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0.15f, 0.15f, 0.25f, 1f);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(0.3f, 0.8f, 1f, 1f);
+        shapeRenderer.rect(x, y, BAR_WIDTH * progress, BAR_HEIGHT);
+        shapeRenderer.end();
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        font.setColor(Color.WHITE);
+        layout.setText(font, "Loading... " + (int) (progress * 100) + "%");
+        font.draw(batch, layout, (Constants.SCREEN_WIDTH - layout.width) / 2f, y + BAR_HEIGHT + 50f);
+        batch.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height, true);
+    }
+
+    @Override public void pause() {}
+    @Override public void resume() {}
+
+    // Never shown again once it hands over
+    @Override public void hide() { dispose(); }
+
+    @Override
+    public void dispose() {
+        if (batch != null) batch.dispose();
+        if (shapeRenderer != null) shapeRenderer.dispose();
+        if (font != null) font.dispose();
+        batch = null;
+        shapeRenderer = null;
+        font = null;
+    }
+}
@@ -1,20 +1,19 @@
 package com.arcane.onslaught.screens;
 
+import com.arcane.onslaught.utils.AssetLoader;
+import com.arcane.onslaught.utils.FontManager;
 import com.arcane.onslaught.utils.HighscoreManager;
 import com.arcane.onslaught.utils.SoundManager;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -80,7 +79,6 @@ public class MenuScreen implements Screen {
     @Override
     public void show() {
         camera = new OrthographicCamera();
-        SoundManager.getInstance().loadSounds();
         SoundManager.getInstance().play("fanfare");
 
         viewport = new FitViewport(Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT, camera);
@@ -93,10 +91,11 @@ public class MenuScreen implements Screen {
         layout = new GlyphLayout();
         touchPoint = new Vector3();
 
-        titleFont = generateFont("fonts/DungeonFont.ttf", 80, new Color(0.3f, 0.8f, 1f, 1f));
-        subtitleFont = generateFont("fonts/DungeonFont.ttf", 40, new Color(1f, 0.5f, 1f, 1f));
-        font = generateFont("fonts/Silver.ttf", 40, Color.WHITE);
-        smallFont = generateFont("fonts/Silver.ttf", 24, Color.GOLD);
+        FontManager fonts = FontManager.getInstance();
+        titleFont = fonts.acquireTintedFont(FontManager.TITLE_FONT, 80, new Color(0.3f, 0.8f, 1f, 1f));
+        subtitleFont = fonts.acquireTintedFont(FontManager.TITLE_FONT, 40, new Color(1f, 0.5f, 1f, 1f));
+        font = fonts.acquireTintedFont(FontManager.DEFAULT_FONT, 40, Color.WHITE);
+        smallFont = fonts.acquireTintedFont(FontManager.DEFAULT_FONT, 24, Color.GOLD);
 
         float centerX = Constants.SCREEN_WIDTH / 2f;
         float centerY = Constants.SCREEN_HEIGHT / 2f;
@@ -115,33 +114,6 @@ public class MenuScreen implements Screen {
         }
     }
 
-    private BitmapFont generateFont(String path, int size, Color color) {
-        FileHandle file = Gdx.files.internal(path);
-        BitmapFont font;
-        if (file.exists()) {
-            try {
-                FreeTypeFontGenerator generator = new FreeTypeFontGenerator(file);
-                FreeTypeFontParameter parameter = new FreeTypeFontParameter();
-                parameter.size = size;
-                parameter.borderWidth = 2;
-                parameter.borderColor = Color.BLACK;
-                parameter.shadowOffsetX = 3;
-                parameter.shadowOffsetY = 3;
-                parameter.shadowColor = new Color(0, 0, 0, 0.5f);
-                font = generator.generateFont(parameter);
-                generator.dispose();
-            } catch (Exception e) {
-                font = new BitmapFont();
-                font.getData().setScale(size / 16f);
-            }
-        } else {
-            font = new BitmapFont();
-            font.getData().setScale(size / 16f);
-        }
-        font.setColor(color);
-        return font;
-    }
-
     @Override
     public void render(float delta) {
         time += delta;
@@ -242,7 +214,7 @@ public class MenuScreen implements Screen {
         if (Gdx.input.justTouched()) {
             if (startHover) {
                 SoundManager.getInstance().play("ui_click");
-                game.setScreen(new GameScreen(game));
+                game.setScreen(LoadingScreen.before(game, AssetLoader.Stage.GAMEPLAY, new GameScreen(game)));
             } else if (settingsHover) {
                 SoundManager.getInstance().play("ui_click");
                 game.setScreen(new SettingsScreen(game, this));
@@ -258,7 +230,7 @@ public class MenuScreen implements Screen {
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
             SoundManager.getInstance().play("ui_click");
-            game.setScreen(new GameScreen(game));
+            game.setScreen(LoadingScreen.before(game, AssetLoader.Stage.GAMEPLAY, new GameScreen(game)));
         }
 
         // Optional: Escape to Quit from Main Menu
@@ -270,6 +242,16 @@ public class MenuScreen implements Screen {
     @Override public void resize(int width, int height) { viewport.update(width, height, true); }
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
-    @Override public void dispose() { batch.dispose(); titleFont.dispose(); subtitleFont.dispose(); font.dispose(); smallFont.dispose(); shapeRenderer.dispose(); }
+    @Override public void hide() { releaseFonts(); }
+    @Override public void dispose() { batch.dispose(); releaseFonts(); shapeRenderer.dispose(); }
+
+    // Shared fonts go back to FontManager, which keeps them for the next show()
+    private void releaseFonts() {
+        FontManager fonts = FontManager.getInstance();
+        fonts.releaseFont(titleFont);
+        fonts.releaseFont(subtitleFont);
+        fonts.releaseFont(font);
+        fonts.releaseFont(smallFont);
+        titleFont = subtitleFont = font = smallFont = null;
+    }
 }
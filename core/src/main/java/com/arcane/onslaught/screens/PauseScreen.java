@@ -56,10 +56,9 @@ public class PauseScreen implements Screen {
         layout = new GlyphLayout();
         touchPoint = new Vector3();
 
-        FontManager.getInstance().load();
-        titleFont = FontManager.getInstance().generateFont(80, Color.CYAN);
+        titleFont = FontManager.getInstance().acquireFont(80, Color.CYAN);
         // Slightly smaller font so 4 options look balanced
-        font = FontManager.getInstance().generateFont(36, Color.WHITE);
+        font = FontManager.getInstance().acquireFont(36, Color.WHITE);
 
         menuBounds = new Rectangle[options.length];
         for(int i=0; i<options.length; i++) menuBounds[i] = new Rectangle();
@@ -221,11 +220,16 @@ public class PauseScreen implements Screen {
     @Override public void resize(int width, int height) { viewport.update(width, height, true); gameScreen.resize(width, height); }
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
+    @Override public void hide() { releaseFonts(); }
     @Override public void dispose() {
         batch.dispose();
         shapeRenderer.dispose();
-        if (titleFont != null) titleFont.dispose();
-        if (font != null) font.dispose();
+        releaseFonts();
+    }
+
+    private void releaseFonts() {
+        FontManager.getInstance().releaseFont(titleFont);
+        FontManager.getInstance().releaseFont(font);
+        titleFont = font = null;
     }
 }
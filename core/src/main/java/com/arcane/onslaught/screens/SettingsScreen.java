@@ -55,8 +55,7 @@ public class SettingsScreen implements Screen {
         touchPoint = new Vector3();
 
         // --- FONT SETUP ---
-        FontManager.getInstance().load();
-        font = FontManager.getInstance().generateFont(32, Color.WHITE);
+        font = FontManager.getInstance().acquireFont(32, Color.WHITE);
         // ------------------
 
         float centerX = Constants.SCREEN_WIDTH / 2f;
@@ -168,12 +167,16 @@ public class SettingsScreen implements Screen {
 
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
+    @Override
+    public void hide() {
+        FontManager.getInstance().releaseFont(font);
+        font = null;
+    }
 
     @Override
     public void dispose() {
         batch.dispose();
         shapeRenderer.dispose();
-        if(font != null) font.dispose();
+        hide();
     }
 }
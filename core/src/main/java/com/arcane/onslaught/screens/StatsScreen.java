@@ -5,14 +5,12 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -69,40 +67,12 @@ public class StatsScreen implements Screen {
         layout = new GlyphLayout();
 
         // --- FONT SETUP ---
-        FontManager.getInstance().load();
-        titleFont = generateFont("fonts/DungeonFont.ttf",60, Color.GOLD);
-        headerFont = FontManager.getInstance().generateFont(38, Color.CYAN);
-        font = FontManager.getInstance().generateFont(28, Color.WHITE);
+        titleFont = FontManager.getInstance().acquireTintedFont(FontManager.TITLE_FONT, 60, Color.GOLD);
+        headerFont = FontManager.getInstance().acquireFont(38, Color.CYAN);
+        font = FontManager.getInstance().acquireFont(28, Color.WHITE);
         // ------------------
     }
 
-    private BitmapFont generateFont(String path, int size, Color color) {
-        FileHandle file = Gdx.files.internal(path);
-        BitmapFont font;
-        if (file.exists()) {
-            try {
-                FreeTypeFontGenerator generator = new FreeTypeFontGenerator(file);
-                FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-                parameter.size = size;
-                parameter.borderWidth = 2;
-                parameter.borderColor = Color.BLACK;
-                parameter.shadowOffsetX = 3;
-                parameter.shadowOffsetY = 3;
-                parameter.shadowColor = new Color(0, 0, 0, 0.5f);
-                font = generator.generateFont(parameter);
-                generator.dispose();
-            } catch (Exception e) {
-                font = new BitmapFont();
-                font.getData().setScale(size / 16f);
-            }
-        } else {
-            font = new BitmapFont();
-            font.getData().setScale(size / 16f);
-        }
-        font.setColor(color);
-        return font;
-    }
-
     @Override
     public void render(float delta) {
         if (Gdx.input.isKeyJustPressed(Input.Keys.F11)) {
@@ -243,14 +213,20 @@ public class StatsScreen implements Screen {
 
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
+    @Override public void hide() { releaseFonts(); }
 
     @Override
     public void dispose() {
         batch.dispose();
         shapeRenderer.dispose();
-        if(titleFont!=null) titleFont.dispose();
-        if(headerFont!=null) headerFont.dispose();
-        if(font!=null) font.dispose();
+        releaseFonts();
+    }
+
+    private void releaseFonts() {
+        FontManager fonts = FontManager.getInstance();
+        fonts.releaseFont(titleFont);
+        fonts.releaseFont(headerFont);
+        fonts.releaseFont(font);
+        titleFont = headerFont = font = null;
     }
 }
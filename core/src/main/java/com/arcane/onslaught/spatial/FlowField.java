@@ -0,0 +1,236 @@
+package com.arcane.onslaught.spatial;
+
+/**
+ * Coarse grid over a rectangle holding the path distance to one goal point, plus a per-cell
+ * unit direction down that distance and an occupancy count for separation.
+ *
+ * Per step: clearDensity(), addOccupant() for each mover, build(goal). Distances come from a
+ * Dijkstra pass with octile costs (10 straight, 14 diagonal), so directions are close to the
+ * straight line on an open grid and bend around blocked cells. Separation directions are
+ * computed per cell in the same call, so movers only do array lookups. After build() all
+ * reads are side-effect free and safe from several threads.
+ */
+public class FlowField {
+    private static final int STRAIGHT = 10;
+    private static final int DIAGONAL = 14;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final float originX, originY;
+    private final float cellSize;
+    private final float invCellSize;
+    private final int cols, rows;
+
+    private final int[] distance;
+    private final float[] dirX;
+    private final float[] dirY;
+    private final int[] density;
+    private final float[] sepX;
+    private final float[] sepY;
+    private final boolean[] blocked;
+
+    // Binary min-heap of (distance, cell) pairs, reused every build. A cell is pushed again
+    // whenever its distance improves; entries whose key no longer matches are skipped when popped.
+    private final int[] heapKeys;
+    private final int[] heapCells;
+    private int heapSize;
+
+    private int goalCell = -1;
+
+    public FlowField(float originX, float originY, float width, float height, float cellSize) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+
+        int cells = cols * rows;
+        distance = new int[cells];
+        dirX = new float[cells];
+        dirY = new float[cells];
+        density = new int[cells];
+        sepX = new float[cells];
+        sepY = new float[cells];
+        blocked = new boolean[cells];
+        // A cell can be pushed once per neighbour
+        heapKeys = new int[cells * 8 + 1];
+        heapCells = new int[cells * 8 + 1];
+    }
+
+    public void setBlocked(int col, int row, boolean value) {
+        blocked[row * cols + col] = value;
+    }
+
+    public void clearDensity() {
+        for (int i = 0; i < density.length; i++) density[i] = 0;
+    }
+
+    public void addOccupant(float x, float y) {
+        density[cellAt(x, y)]++;
+    }
+
+    /** Recomputes distances and directions toward (goalX, goalY). */
+    public void build(float goalX, float goalY) {
+        for (int i = 0; i < distance.length; i++) distance[i] = UNREACHED;
+
+        goalCell = cellAt(goalX, goalY);
+        distance[goalCell] = 0;
+        heapSize = 0;
+        push(0, goalCell);
+
+        while (heapSize > 0) {
+            int d = heapKeys[0];
+            int cell = pop();
+            if (d != distance[cell]) continue;
+            int cx = cell % cols;
+            int cy = cell / cols;
+            for (int oy = -1; oy <= 1; oy++) {
+                int ny = cy + oy;
+                if (ny < 0 || ny >= rows) continue;
+                for (int ox = -1; ox <= 1; ox++) {
+                    if (ox == 0 && oy == 0) continue;
+                    int nx = cx + ox;
+                    if (nx < 0 || nx >= cols) continue;
+                    int next = ny * cols + nx;
+                    if (blocked[next]) continue;
+                    // No corner cutting past a blocked cell
+                    if (ox != 0 && oy != 0 && (blocked[cy * cols + nx] || blocked[ny * cols + cx])) continue;
+                    int nd = d + (ox != 0 && oy != 0 ? DIAGONAL : STRAIGHT);
+                    if (nd < distance[next]) {
+                        distance[next] = nd;
+                        push(nd, next);
+                    }
+                }
+            }
+        }
+
+        computeDirections();
+        computeSeparation();
+    }
+
+    // Direction = negative distance gradient (central differences), normalised
+    private void computeDirections() {
+        for (int cy = 0; cy < rows; cy++) {
+            for (int cx = 0; cx < cols; cx++) {
+                int cell = cy * cols + cx;
+                if (cell == goalCell || distance[cell] == UNREACHED) {
+                    dirX[cell] = 0f;
+                    dirY[cell] = 0f;
+                    continue;
+                }
+                float gx = sampleDistance(cx - 1, cy, cell) - sampleDistance(cx + 1, cy, cell);
+                float gy = sampleDistance(cx, cy - 1, cell) - sampleDistance(cx, cy + 1, cell);
+                float len = (float) Math.sqrt(gx * gx + gy * gy);
+                if (len > 0f) {
+                    dirX[cell] = gx / len;
+                    dirY[cell] = gy / len;
+                } else {
+                    dirX[cell] = 0f;
+                    dirY[cell] = 0f;
+                }
+            }
+        }
+    }
+
+    // Sum of unit offsets to each neighbour weighted by how many fewer occupants it has, normalised.
+    // Missing neighbours past the edge add nothing, so nothing is pushed out of the grid.
+    private void computeSeparation() {
+        for (int cy = 0; cy < rows; cy++) {
+            for (int cx = 0; cx < cols; cx++) {
+                int cell = cy * cols + cx;
+                int own = density[cell];
+                float sx = 0f, sy = 0f;
+                if (own > 0) {
+                    for (int oy = -1; oy <= 1; oy++) {
+                        int ny = cy + oy;
+                        if (ny < 0 || ny >= rows) continue;
+                        for (int ox = -1; ox <= 1; ox++) {
+                            if (ox == 0 && oy == 0) continue;
+                            int nx = cx + ox;
+                            if (nx < 0 || nx >= cols) continue;
+                            int diff = own - density[ny * cols + nx];
+                            if (diff <= 0) continue;
+                            float w = (ox != 0 && oy != 0) ? diff * 0.7071f : diff;
+                            sx += ox * w;
+                            sy += oy * w;
+                        }
+                    }
+                }
+                float len = (float) Math.sqrt(sx * sx + sy * sy);
+                sepX[cell] = len > 0f ? sx / len : 0f;
+                sepY[cell] = len > 0f ? sy / len : 0f;
+            }
+        }
+    }
+
+    // Outside the grid or unreachable neighbours count as this cell's own distance (no pull either way)
+    private float sampleDistance(int cx, int cy, int fallbackCell) {
+        if (cx < 0 || cx >= cols || cy < 0 || cy >= rows) return distance[fallbackCell];
+        int d = distance[cy * cols + cx];
+        return d == UNREACHED ? distance[fallbackCell] : d;
+    }
+
+    // --- Queries ---
+
+    /** Cell containing (x, y); points outside the grid map to the nearest edge cell. */
+    public int cellAt(float x, float y) {
+        int cx = (int) ((x - originX) * invCellSize);
+        int cy = (int) ((y - originY) * invCellSize);
+        if (cx < 0) cx = 0; else if (cx >= cols) cx = cols - 1;
+        if (cy < 0) cy = 0; else if (cy >= rows) cy = rows - 1;
+        return cy * cols + cx;
+    }
+
+    /** True for the goal cell and its neighbours, where movers should steer at the goal directly. */
+    public boolean isNearGoal(int cell) {
+        int dx = Math.abs(cell % cols - goalCell % cols);
+        int dy = Math.abs(cell / cols - goalCell / cols);
+        return dx <= 1 && dy <= 1;
+    }
+
+    public float getDirX(int cell) { return dirX[cell]; }
+    public float getDirY(int cell) { return dirY[cell]; }
+
+    /** Unit direction out of this cell toward emptier neighbours; zero on an even crowd. */
+    public float getSeparationX(int cell) { return sepX[cell]; }
+    public float getSeparationY(int cell) { return sepY[cell]; }
+
+    public int getDensity(int cell) { return density[cell]; }
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+    public float getCellSize() { return cellSize; }
+
+    // --- Heap ---
+
+    private void push(int key, int cell) {
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (heapKeys[parent] <= key) break;
+            heapKeys[i] = heapKeys[parent];
+            heapCells[i] = heapCells[parent];
+            i = parent;
+        }
+        heapKeys[i] = key;
+        heapCells[i] = cell;
+    }
+
+    private int pop() {
+        int top = heapCells[0];
+        int lastKey = heapKeys[--heapSize];
+        int lastCell = heapCells[heapSize];
+        int i = 0;
+        while (true) {
+            int child = i * 2 + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) child++;
+            if (heapKeys[child] >= lastKey) break;
+            heapKeys[i] = heapKeys[child];
+            heapCells[i] = heapCells[child];
+            i = child;
+        }
+        heapKeys[i] = lastKey;
+        heapCells[i] = lastCell;
+        return top;
+    }
+}
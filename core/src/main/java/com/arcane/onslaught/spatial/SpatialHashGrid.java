@@ -0,0 +1,262 @@
+package com.arcane.onslaught.spatial;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Uniform-grid spatial hash for circle-shaped entities.
+ * Filled once per frame (clear, add..., build) and then queried by any system.
+ * All storage is reused between frames, so steady-state rebuilds don't allocate.
+ */
+public class SpatialHashGrid {
+
+    /** Optional predicate used by the nearest-neighbour queries. */
+    public interface Filter {
+        boolean accept(Entity entity);
+    }
+
+    private final float cellSize;
+    private final float invCellSize;
+
+    // Per-item data (insertion order)
+    private Entity[] entities = new Entity[64];
+    private float[] xs = new float[64];
+    private float[] ys = new float[64];
+    private float[] radii = new float[64];
+    private int[] cellXs = new int[64];
+    private int[] cellYs = new int[64];
+    private int[] buckets = new int[64];
+    private int count = 0;
+
+    // Bucket table (counting sort of items by bucket)
+    private int tableMask = 63;
+    private int[] bucketStart = new int[65];
+    private int[] order = new int[64];
+
+    private float maxRadius = 0f;
+    private int minCellX, minCellY, maxCellX, maxCellY;
+
+    // Scratch storage for k-nearest queries
+    private float[] bestDist = new float[8];
+
+    public SpatialHashGrid(float cellSize) {
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+    }
+
+    public void clear() {
+        for (int i = 0; i < count; i++) entities[i] = null;
+        count = 0;
+        maxRadius = 0f;
+    }
+
+    public void add(Entity entity, float x, float y, float radius) {
+        if (count == entities.length) grow(count * 2);
+        entities[count] = entity;
+        xs[count] = x;
+        ys[count] = y;
+        radii[count] = radius;
+        cellXs[count] = cellCoord(x);
+        cellYs[count] = cellCoord(y);
+        if (radius > maxRadius) maxRadius = radius;
+        count++;
+    }
+
+    /**
+     * Sorts the added items into their buckets. Must be called after the last add() and before querying.
+     */
+    public void build() {
+        int tableSize = 64;
+        while (tableSize < count * 2) tableSize <<= 1;
+        if (bucketStart.length < tableSize + 1) bucketStart = new int[tableSize + 1];
+        tableMask = tableSize - 1;
+
+        for (int b = 0; b <= tableSize; b++) bucketStart[b] = 0;
+
+        minCellX = Integer.MAX_VALUE; minCellY = Integer.MAX_VALUE;
+        maxCellX = Integer.MIN_VALUE; maxCellY = Integer.MIN_VALUE;
+
+        for (int i = 0; i < count; i++) {
+            int cx = cellXs[i];
+            int cy = cellYs[i];
+            int bucket = hash(cx, cy);
+            buckets[i] = bucket;
+            bucketStart[bucket + 1]++;
+            if (cx < minCellX) minCellX = cx;
+            if (cy < minCellY) minCellY = cy;
+            if (cx > maxCellX) maxCellX = cx;
+            if (cy > maxCellY) maxCellY = cy;
+        }
+        for (int b = 0; b < tableSize; b++) bucketStart[b + 1] += bucketStart[b];
+
+        // Fill 'order' using the prefix sums; bucketStart[b] temporarily acts as a write cursor
+        for (int i = 0; i < count; i++) {
+            order[bucketStart[buckets[i]]++] = i;
+        }
+        // Shift the cursors back so bucketStart[b] is the start of bucket b again
+        for (int b = tableSize; b > 0; b--) bucketStart[b] = bucketStart[b - 1];
+        bucketStart[0] = 0;
+    }
+
+    public int size() { return count; }
+    public float getCellSize() { return cellSize; }
+    public float getMaxRadius() { return maxRadius; }
+
+    /**
+     * Collects every entity whose circle overlaps the query circle (distance <= range + entity radius).
+     * This is a broadphase: callers still run their own exact test on the results.
+     */
+    public void query(float x, float y, float range, Array<Entity> out) {
+        out.clear();
+        if (count == 0) return;
+
+        float reach = range + maxRadius;
+        int x0 = Math.max(cellCoord(x - reach), minCellX);
+        int x1 = Math.min(cellCoord(x + reach), maxCellX);
+        int y0 = Math.max(cellCoord(y - reach), minCellY);
+        int y1 = Math.min(cellCoord(y + reach), maxCellY);
+
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int bucket = hash(cx, cy);
+                for (int o = bucketStart[bucket], end = bucketStart[bucket + 1]; o < end; o++) {
+                    int i = order[o];
+                    // Different cells can share a bucket; only take items that really live in this cell
+                    if (cellXs[i] != cx || cellYs[i] != cy) continue;
+                    float dx = xs[i] - x;
+                    float dy = ys[i] - y;
+                    float limit = range + radii[i];
+                    if (dx * dx + dy * dy <= limit * limit) out.add(entities[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the closest accepted entity (center to center) within maxRange, or null.
+     */
+    public Entity nearest(float x, float y, float maxRange, Filter filter) {
+        if (count == 0) return null;
+
+        int ccx = cellCoord(x);
+        int ccy = cellCoord(y);
+        int maxRing = maxRingFor(ccx, ccy, maxRange);
+
+        Entity best = null;
+        float bestDst2 = maxRange * maxRange;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cy = ccy - ring; cy <= ccy + ring; cy++) {
+                boolean edgeRow = (cy == ccy - ring || cy == ccy + ring);
+                int step = edgeRow ? 1 : Math.max(1, ring * 2);
+                for (int cx = ccx - ring; cx <= ccx + ring; cx += step) {
+                    int bucket = hash(cx, cy);
+                    for (int o = bucketStart[bucket], end = bucketStart[bucket + 1]; o < end; o++) {
+                        int i = order[o];
+                        if (cellXs[i] != cx || cellYs[i] != cy) continue;
+                        float dx = xs[i] - x;
+                        float dy = ys[i] - y;
+                        float d2 = dx * dx + dy * dy;
+                        if (d2 > bestDst2 || (best != null && d2 == bestDst2)) continue;
+                        if (filter != null && !filter.accept(entities[i])) continue;
+                        best = entities[i];
+                        bestDst2 = d2;
+                    }
+                }
+            }
+            // Every cell in the next ring is at least ring * cellSize away from the query point
+            float ringDist = ring * cellSize;
+            if (best != null && bestDst2 <= ringDist * ringDist) break;
+        }
+        return best;
+    }
+
+    /**
+     * Collects up to k accepted entities within maxRange, closest first.
+     */
+    public void kNearest(float x, float y, int k, float maxRange, Filter filter, Array<Entity> out) {
+        out.clear();
+        if (count == 0 || k <= 0) return;
+        if (bestDist.length < k) bestDist = new float[k];
+
+        int ccx = cellCoord(x);
+        int ccy = cellCoord(y);
+        int maxRing = maxRingFor(ccx, ccy, maxRange);
+        float range2 = maxRange * maxRange;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cy = ccy - ring; cy <= ccy + ring; cy++) {
+                boolean edgeRow = (cy == ccy - ring || cy == ccy + ring);
+                int step = edgeRow ? 1 : Math.max(1, ring * 2);
+                for (int cx = ccx - ring; cx <= ccx + ring; cx += step) {
+                    int bucket = hash(cx, cy);
+                    for (int o = bucketStart[bucket], end = bucketStart[bucket + 1]; o < end; o++) {
+                        int i = order[o];
+                        if (cellXs[i] != cx || cellYs[i] != cy) continue;
+                        float dx = xs[i] - x;
+                        float dy = ys[i] - y;
+                        float d2 = dx * dx + dy * dy;
+                        if (d2 > range2) continue;
+                        if (out.size == k && d2 >= bestDist[k - 1]) continue;
+                        if (filter != null && !filter.accept(entities[i])) continue;
+                        insertSorted(entities[i], d2, k, out);
+                    }
+                }
+            }
+            float ringDist = ring * cellSize;
+            if (out.size == k && bestDist[k - 1] <= ringDist * ringDist) break;
+        }
+    }
+
+    private void insertSorted(Entity entity, float d2, int k, Array<Entity> out) {
+        int pos = out.size;
+        while (pos > 0 && bestDist[pos - 1] > d2) pos--;
+        if (pos >= k) return;
+        if (out.size == k) out.pop();
+        out.insert(pos, entity);
+        for (int j = out.size - 1; j > pos; j--) bestDist[j] = bestDist[j - 1];
+        bestDist[pos] = d2;
+    }
+
+    /** Number of rings needed to cover maxRange, clipped to the occupied area. */
+    private int maxRingFor(int ccx, int ccy, float maxRange) {
+        int byBounds = Math.max(
+            Math.max(Math.abs(ccx - minCellX), Math.abs(maxCellX - ccx)),
+            Math.max(Math.abs(ccy - minCellY), Math.abs(maxCellY - ccy)));
+        double byRange = Math.ceil(maxRange * (double) invCellSize) + 1;
+        return byRange < byBounds ? (int) byRange : byBounds;
+    }
+
+    private int cellCoord(float v) {
+        return (int) Math.floor(v * invCellSize);
+    }
+
+    private int hash(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & tableMask;
+    }
+
+    private void grow(int capacity) {
+        Entity[] newEntities = new Entity[capacity];
+        System.arraycopy(entities, 0, newEntities, 0, count);
+        entities = newEntities;
+        xs = copyOf(xs, capacity);
+        ys = copyOf(ys, capacity);
+        radii = copyOf(radii, capacity);
+        cellXs = copyOf(cellXs, capacity);
+        cellYs = copyOf(cellYs, capacity);
+        buckets = new int[capacity];
+        order = new int[capacity];
+    }
+
+    private static float[] copyOf(float[] src, int capacity) {
+        float[] dst = new float[capacity];
+        System.arraycopy(src, 0, dst, 0, Math.min(src.length, capacity));
+        return dst;
+    }
+
+    private static int[] copyOf(int[] src, int capacity) {
+        int[] dst = new int[capacity];
+        System.arraycopy(src, 0, dst, 0, Math.min(src.length, capacity));
+        return dst;
+    }
+}
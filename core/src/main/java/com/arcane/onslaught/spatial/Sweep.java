@@ -0,0 +1,38 @@
+package com.arcane.onslaught.spatial;
+
+/**
+ * Continuous collision tests for circles moving in straight lines over one step.
+ */
+public final class Sweep {
+    public static final float NO_HIT = -1f;
+
+    private Sweep() {}
+
+    /**
+     * Earliest fraction t in [0, 1] of the step at which circle A, moving from (ax0, ay0) to
+     * (ax1, ay1), first touches circle B, moving from (bx0, by0) to (bx1, by1), where radius is
+     * the sum of both radii. Returns 0 if they already overlap at the start, NO_HIT if they never touch.
+     */
+    public static float timeOfImpact(float ax0, float ay0, float ax1, float ay1,
+                                     float bx0, float by0, float bx1, float by1, float radius) {
+        // Work in B's frame: A starts at s and moves by d
+        float sx = ax0 - bx0;
+        float sy = ay0 - by0;
+        float c = sx * sx + sy * sy - radius * radius;
+        if (c <= 0f) return 0f;
+
+        float dx = (ax1 - ax0) - (bx1 - bx0);
+        float dy = (ay1 - ay0) - (by1 - by0);
+        float a = dx * dx + dy * dy;
+        if (a == 0f) return NO_HIT;
+
+        float b = sx * dx + sy * dy;
+        if (b >= 0f) return NO_HIT; // moving apart
+
+        // |s + t d|^2 = r^2  ->  a t^2 + 2 b t + c = 0
+        float disc = b * b - a * c;
+        if (disc < 0f) return NO_HIT;
+        float t = (-b - (float) Math.sqrt(disc)) / a;
+        return t <= 1f ? t : NO_HIT;
+    }
+}
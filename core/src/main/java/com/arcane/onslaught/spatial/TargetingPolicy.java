@@ -0,0 +1,10 @@
+package com.arcane.onslaught.spatial;
+
+/**
+ * How a spell picks its target among enemies within its targeting range.
+ */
+public enum TargetingPolicy {
+    NEAREST,
+    STRONGEST,      // highest current health
+    RANDOM_IN_RANGE
+}
@@ -0,0 +1,121 @@
+package com.arcane.onslaught.spatial;
+
+import com.arcane.onslaught.entities.components.HealthComponent;
+import com.arcane.onslaught.utils.GameRandom;
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import java.util.Set;
+
+/**
+ * Enemy target selection on top of the per-frame enemy grid.
+ * Queries only visit cells around the query point, so their cost depends on how crowded
+ * that area is, not on the total enemy count. Only living enemies are ever returned.
+ */
+public class TargetingService {
+    public static final float UNLIMITED_RANGE = Float.MAX_VALUE;
+
+    private final SpatialHashGrid grid;
+    private final ComponentMapper<HealthComponent> hm = ComponentMapper.getFor(HealthComponent.class);
+    private final GameRandom.RandomStream random = GameRandom.of(GameRandom.Channel.COMBAT);
+
+    private final Array<Entity> candidates = new Array<>();
+    private final TargetFilter filter = new TargetFilter();
+
+    public TargetingService(SpatialHashGrid grid) {
+        this.grid = grid;
+    }
+
+    public Entity nearest(float x, float y, float range) {
+        return nearestNotIn(x, y, range, null, null);
+    }
+
+    public Entity nearest(float x, float y, float range, SpatialHashGrid.Filter extra) {
+        return nearestNotIn(x, y, range, null, extra);
+    }
+
+    /** Nearest living enemy that is not in {@code excluded} (e.g. already hit by a chain). */
+    public Entity nearestNotIn(float x, float y, float range, Set<Entity> excluded, SpatialHashGrid.Filter extra) {
+        filter.set(excluded, extra);
+        try {
+            return grid.nearest(x, y, range, filter);
+        } finally {
+            filter.set(null, null);
+        }
+    }
+
+    /** Up to k living enemies within range, closest first. */
+    public void kNearest(float x, float y, int k, float range, SpatialHashGrid.Filter extra, Array<Entity> out) {
+        filter.set(null, extra);
+        try {
+            grid.kNearest(x, y, k, range, filter, out);
+        } finally {
+            filter.set(null, null);
+        }
+    }
+
+    /** Living enemy with the most current health within range; ties go to the first one indexed. */
+    public Entity strongest(float x, float y, float range, SpatialHashGrid.Filter extra) {
+        collect(x, y, range, extra);
+        Entity best = null;
+        float bestHealth = -Float.MAX_VALUE;
+        for (int i = 0; i < candidates.size; i++) {
+            Entity enemy = candidates.get(i);
+            float health = hm.get(enemy).currentHealth;
+            if (health > bestHealth) {
+                bestHealth = health;
+                best = enemy;
+            }
+        }
+        candidates.clear();
+        return best;
+    }
+
+    /** Uniformly random living enemy within range, drawn from the COMBAT stream. */
+    public Entity randomInRange(float x, float y, float range, SpatialHashGrid.Filter extra) {
+        collect(x, y, range, extra);
+        Entity pick = candidates.size == 0 ? null : candidates.get(random.nextInt(candidates.size));
+        candidates.clear();
+        return pick;
+    }
+
+    public Entity select(TargetingPolicy policy, float x, float y, float range) {
+        switch (policy) {
+            case STRONGEST: return strongest(x, y, range, null);
+            case RANDOM_IN_RANGE: return randomInRange(x, y, range, null);
+            case NEAREST:
+            default: return nearest(x, y, range);
+        }
+    }
+
+    // Range queries are bounded by the grid's occupied area, so "unlimited" stays cheap
+    private void collect(float x, float y, float range, SpatialHashGrid.Filter extra) {
+        grid.query(x, y, range, candidates);
+        filter.set(null, extra);
+        int write = 0;
+        for (int i = 0; i < candidates.size; i++) {
+            Entity enemy = candidates.get(i);
+            if (filter.accept(enemy)) candidates.set(write++, enemy);
+        }
+        candidates.truncate(write);
+        filter.set(null, null);
+    }
+
+    private class TargetFilter implements SpatialHashGrid.Filter {
+        Set<Entity> excluded;
+        SpatialHashGrid.Filter extra;
+
+        void set(Set<Entity> excluded, SpatialHashGrid.Filter extra) {
+            this.excluded = excluded;
+            this.extra = extra;
+        }
+
+        @Override
+        public boolean accept(Entity enemy) {
+            if (excluded != null && excluded.contains(enemy)) return false;
+            HealthComponent health = hm.get(enemy);
+            if (health == null || !health.isAlive()) return false;
+            return extra == null || extra.accept(enemy);
+        }
+    }
+}
@@ -20,8 +20,7 @@ public class ArcaneMissilesSpell extends Spell {
 
     @Override
     public void cast(Engine engine, Entity caster, Vector2 playerPos, Vector2 targetPos, PlayerBuild playerBuild) {
-        Vector2 baseDirection = new Vector2(targetPos).sub(playerPos).nor();
-        if (baseDirection.isZero()) baseDirection.set(1, 0);
+        Vector2 baseDirection = aimAt(playerPos, targetPos);
 
         int bonus = UpgradeHelper.getProjectileCount(playerBuild) - 1;
         int totalMissiles = baseMissileCount + bonus;
@@ -29,27 +28,26 @@ public class ArcaneMissilesSpell extends Spell {
 
         for (int i = 0; i < totalMissiles; i++) {
             float angleOffset = spread * (i - (totalMissiles - 1) / 2f);
-            Vector2 direction = baseDirection.cpy().rotateDeg(angleOffset);
 
-            Entity projectile = new Entity();
-            projectile.add(new PositionComponent(playerPos.x, playerPos.y));
+            Entity projectile = engine.createEntity();
+            projectile.add(engine.createComponent(PositionComponent.class).init(playerPos.x, playerPos.y));
 
-            VelocityComponent vel = new VelocityComponent(projectileSpeed);
-            vel.velocity.set(direction).scl(projectileSpeed);
+            VelocityComponent vel = engine.createComponent(VelocityComponent.class).init(projectileSpeed);
+            vel.velocity.set(baseDirection).rotateDeg(angleOffset).scl(projectileSpeed);
             projectile.add(vel);
 
-            projectile.add(new VisualComponent(projectileSize, projectileSize,
-                TextureManager.getInstance().getTexture("arcane_missile")));
+            projectile.add(engine.createComponent(VisualComponent.class).init(projectileSize, projectileSize,
+                TextureManager.getInstance().getRegion("arcane_missile")));
 
             // CRIT
             float finalDamage = calculateDamage(caster);
-            projectile.add(new ProjectileComponent(finalDamage, 5f, "arcane_missile"));
+            projectile.add(engine.createComponent(ProjectileComponent.class).init(finalDamage, 5f, "arcane_missile"));
 
             // PIERCE (Base + Upgrade)
             int extraPierce = playerBuild.hasTag("piercing") ? 1 : 0;
-            projectile.add(new PierceComponent(basePierceCount + extraPierce));
+            projectile.add(engine.createComponent(PierceComponent.class).init(basePierceCount + extraPierce));
 
-            UpgradeHelper.applyProjectileUpgrades(projectile, playerBuild, this.name);
+            UpgradeHelper.applyProjectileUpgrades(engine, projectile, playerBuild, this.name);
             engine.addEntity(projectile);
         }
     }
@@ -19,38 +19,36 @@ public class FireballSpell extends Spell {
 
     @Override
     public void cast(Engine engine, Entity caster, Vector2 playerPos, Vector2 targetPos, PlayerBuild playerBuild) {
-        Vector2 baseDirection = new Vector2(targetPos).sub(playerPos).nor();
-        if (baseDirection.isZero()) baseDirection.set(1, 0);
+        Vector2 baseDirection = aimAt(playerPos, targetPos);
 
         int count = UpgradeHelper.getProjectileCount(playerBuild);
         float spread = 15f;
 
         for (int i = 0; i < count; i++) {
             float angleOffset = spread * (i - (count - 1) / 2f);
-            Vector2 direction = baseDirection.cpy().rotateDeg(angleOffset);
 
-            Entity projectile = new Entity();
-            projectile.add(new PositionComponent(playerPos.x, playerPos.y));
+            Entity projectile = engine.createEntity();
+            projectile.add(engine.createComponent(PositionComponent.class).init(playerPos.x, playerPos.y));
 
-            VelocityComponent vel = new VelocityComponent(projectileSpeed);
-            vel.velocity.set(direction).scl(projectileSpeed);
+            VelocityComponent vel = engine.createComponent(VelocityComponent.class).init(projectileSpeed);
+            vel.velocity.set(baseDirection).rotateDeg(angleOffset).scl(projectileSpeed);
             projectile.add(vel);
 
-            projectile.add(new VisualComponent(projectileSize, projectileSize,
-                TextureManager.getInstance().getTexture("fireball")));
+            projectile.add(engine.createComponent(VisualComponent.class).init(projectileSize, projectileSize,
+                TextureManager.getInstance().getRegion("fireball")));
 
             // CRIT & PIERCE
             float finalDamage = calculateDamage(caster);
-            projectile.add(new ProjectileComponent(finalDamage, 5f, "fireball"));
+            projectile.add(engine.createComponent(ProjectileComponent.class).init(finalDamage, 5f, "fireball"));
 
             // Fireballs usually explode on impact, but if you have pierce, they might pass through!
             if (playerBuild.hasTag("piercing")) {
-                projectile.add(new PierceComponent(1));
+                projectile.add(engine.createComponent(PierceComponent.class).init(1));
             }
 
-            projectile.add(new ExplosiveComponent(explosionRadius, finalDamage * 0.5f));
+            projectile.add(engine.createComponent(ExplosiveComponent.class).init(explosionRadius, finalDamage * 0.5f));
 
-            UpgradeHelper.applyProjectileUpgrades(projectile, playerBuild, this.name);
+            UpgradeHelper.applyProjectileUpgrades(engine, projectile, playerBuild, this.name);
             engine.addEntity(projectile);
         }
     }
@@ -20,38 +20,36 @@ public class IceShardSpell extends Spell {
 
     @Override
     public void cast(Engine engine, Entity caster, Vector2 playerPos, Vector2 targetPos, PlayerBuild playerBuild) {
-        Vector2 baseDirection = new Vector2(targetPos).sub(playerPos).nor();
-        if (baseDirection.isZero()) baseDirection.set(1, 0);
+        Vector2 baseDirection = aimAt(playerPos, targetPos);
 
         int count = UpgradeHelper.getProjectileCount(playerBuild);
         float spread = 20f;
 
         for (int i = 0; i < count; i++) {
             float angleOffset = spread * (i - (count - 1) / 2f);
-            Vector2 direction = baseDirection.cpy().rotateDeg(angleOffset);
 
-            Entity projectile = new Entity();
-            projectile.add(new PositionComponent(playerPos.x, playerPos.y));
+            Entity projectile = engine.createEntity();
+            projectile.add(engine.createComponent(PositionComponent.class).init(playerPos.x, playerPos.y));
 
-            VelocityComponent vel = new VelocityComponent(projectileSpeed);
-            vel.velocity.set(direction).scl(projectileSpeed);
+            VelocityComponent vel = engine.createComponent(VelocityComponent.class).init(projectileSpeed);
+            vel.velocity.set(baseDirection).rotateDeg(angleOffset).scl(projectileSpeed);
             projectile.add(vel);
 
-            projectile.add(new VisualComponent(projectileSize, projectileSize,
-                TextureManager.getInstance().getTexture("ice_shard")));
+            projectile.add(engine.createComponent(VisualComponent.class).init(projectileSize, projectileSize,
+                TextureManager.getInstance().getRegion("ice_shard")));
 
             // CRIT & PIERCE
             float finalDamage = calculateDamage(caster);
-            projectile.add(new ProjectileComponent(finalDamage, 5f, "ice_shard"));
+            projectile.add(engine.createComponent(ProjectileComponent.class).init(finalDamage, 5f, "ice_shard"));
 
             // Ice naturally pierces 1 enemy, upgrades add more
             int basePierce = 1;
             int extraPierce = playerBuild.hasTag("piercing") ? 1 : 0;
-            projectile.add(new PierceComponent(basePierce + extraPierce));
+            projectile.add(engine.createComponent(PierceComponent.class).init(basePierce + extraPierce));
 
-            projectile.add(new SlowComponent(slowAmount, slowDuration));
+            projectile.add(engine.createComponent(SlowComponent.class).init(slowAmount, slowDuration));
 
-            UpgradeHelper.applyProjectileUpgrades(projectile, playerBuild, this.name);
+            UpgradeHelper.applyProjectileUpgrades(engine, projectile, playerBuild, this.name);
             engine.addEntity(projectile);
         }
     }
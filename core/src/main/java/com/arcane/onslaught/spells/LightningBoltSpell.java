@@ -20,37 +20,35 @@ public class LightningBoltSpell extends Spell {
 
     @Override
     public void cast(Engine engine, Entity caster, Vector2 playerPos, Vector2 targetPos, PlayerBuild playerBuild) {
-        Vector2 baseDirection = new Vector2(targetPos).sub(playerPos).nor();
-        if (baseDirection.isZero()) baseDirection.set(1, 0);
+        Vector2 baseDirection = aimAt(playerPos, targetPos);
 
         int count = UpgradeHelper.getProjectileCount(playerBuild);
         float spread = 15f;
 
         for (int i = 0; i < count; i++) {
             float angleOffset = spread * (i - (count - 1) / 2f);
-            Vector2 direction = baseDirection.cpy().rotateDeg(angleOffset);
 
-            Entity projectile = new Entity();
-            projectile.add(new PositionComponent(playerPos.x, playerPos.y));
+            Entity projectile = engine.createEntity();
+            projectile.add(engine.createComponent(PositionComponent.class).init(playerPos.x, playerPos.y));
 
-            VelocityComponent vel = new VelocityComponent(projectileSpeed);
-            vel.velocity.set(direction).scl(projectileSpeed);
+            VelocityComponent vel = engine.createComponent(VelocityComponent.class).init(projectileSpeed);
+            vel.velocity.set(baseDirection).rotateDeg(angleOffset).scl(projectileSpeed);
             projectile.add(vel);
 
-            projectile.add(new VisualComponent(projectileSize, projectileSize,
-                TextureManager.getInstance().getTexture("lightning")));
+            projectile.add(engine.createComponent(VisualComponent.class).init(projectileSize, projectileSize,
+                TextureManager.getInstance().getRegion("lightning")));
 
             // CRIT
             float finalDamage = calculateDamage(caster);
-            projectile.add(new ProjectileComponent(finalDamage, 3f, "lightning"));
+            projectile.add(engine.createComponent(ProjectileComponent.class).init(finalDamage, 3f, "lightning"));
 
             // Chain logic
-            projectile.add(new ChainComponent(chainCount, chainRange, finalDamage * 0.7f));
+            projectile.add(engine.createComponent(ChainComponent.class).init(chainCount, chainRange, finalDamage * 0.7f));
 
             // Lightning doesn't typically "pierce" in a straight line because it chains,
             // but we can add it if you really want. Usually redundant with ChainComponent.
 
-            UpgradeHelper.applyProjectileUpgrades(projectile, playerBuild, this.name);
+            UpgradeHelper.applyProjectileUpgrades(engine, projectile, playerBuild, this.name);
             engine.addEntity(projectile);
         }
     }
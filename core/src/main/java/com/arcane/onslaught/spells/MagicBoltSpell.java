@@ -18,35 +18,33 @@ public class MagicBoltSpell extends Spell {
 
     @Override
     public void cast(Engine engine, Entity caster, Vector2 playerPos, Vector2 targetPos, PlayerBuild playerBuild) {
-        Vector2 baseDirection = new Vector2(targetPos).sub(playerPos).nor();
-        if (baseDirection.isZero()) baseDirection.set(1, 0);
+        Vector2 baseDirection = aimAt(playerPos, targetPos);
 
         int count = UpgradeHelper.getProjectileCount(playerBuild);
         float spread = 10f;
 
         for (int i = 0; i < count; i++) {
             float angleOffset = spread * (i - (count - 1) / 2f);
-            Vector2 direction = baseDirection.cpy().rotateDeg(angleOffset);
 
-            Entity projectile = new Entity();
-            projectile.add(new PositionComponent(playerPos.x, playerPos.y));
+            Entity projectile = engine.createEntity();
+            projectile.add(engine.createComponent(PositionComponent.class).init(playerPos.x, playerPos.y));
 
-            VelocityComponent vel = new VelocityComponent(projectileSpeed);
-            vel.velocity.set(direction).scl(projectileSpeed);
+            VelocityComponent vel = engine.createComponent(VelocityComponent.class).init(projectileSpeed);
+            vel.velocity.set(baseDirection).rotateDeg(angleOffset).scl(projectileSpeed);
             projectile.add(vel);
 
-            projectile.add(new VisualComponent(projectileSize, projectileSize,
-                TextureManager.getInstance().getTexture("magic_bolt")));
+            projectile.add(engine.createComponent(VisualComponent.class).init(projectileSize, projectileSize,
+                TextureManager.getInstance().getRegion("magic_bolt")));
 
             // CRIT & PIERCE
             float finalDamage = calculateDamage(caster);
-            projectile.add(new ProjectileComponent(finalDamage, 5f, "magic_bolt"));
+            projectile.add(engine.createComponent(ProjectileComponent.class).init(finalDamage, 5f, "magic_bolt"));
 
             if (playerBuild.hasTag("piercing")) {
-                projectile.add(new PierceComponent(1));
+                projectile.add(engine.createComponent(PierceComponent.class).init(1));
             }
 
-            UpgradeHelper.applyProjectileUpgrades(projectile, playerBuild, this.name);
+            UpgradeHelper.applyProjectileUpgrades(engine, projectile, playerBuild, this.name);
             engine.addEntity(projectile);
         }
     }
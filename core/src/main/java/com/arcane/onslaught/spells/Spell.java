@@ -4,8 +4,11 @@ import com.badlogic.ashley.core.ComponentMapper;
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.Vector2;
+import com.arcane.onslaught.spatial.TargetingPolicy;
+import com.arcane.onslaught.spatial.TargetingService;
 import com.arcane.onslaught.upgrades.PlayerBuild;
 import com.arcane.onslaught.entities.components.CriticalComponent;
+import com.arcane.onslaught.utils.GameRandom;
 
 /**
  * Base class for all spell types
@@ -16,6 +19,14 @@ public abstract class Spell {
     protected float currentCooldown = 0;
     protected float damage;
 
+    // --- Targeting ---
+    // If nothing qualifies within range, SpellCastSystem falls back to the nearest enemy anywhere
+    protected TargetingPolicy targetingPolicy = TargetingPolicy.NEAREST;
+    protected float targetingRange = TargetingService.UNLIMITED_RANGE;
+
+    // Scratch aim vector reused by every cast (spells are only cast from the game thread)
+    protected final Vector2 aimDirection = new Vector2();
+
     private static final ComponentMapper<CriticalComponent> critMapper = ComponentMapper.getFor(CriticalComponent.class);
 
     public Spell(String name, float cooldown, float damage) {
@@ -41,6 +52,16 @@ public abstract class Spell {
     // --- UPDATED SIGNATURE ---
     public abstract void cast(Engine engine, Entity caster, Vector2 playerPos, Vector2 targetPos, PlayerBuild playerBuild);
 
+    /**
+     * Normalized direction from 'from' to 'to', falling back to +X when they coincide.
+     * Returns the shared aimDirection vector, so copy it if it must outlive the cast.
+     */
+    protected Vector2 aimAt(Vector2 from, Vector2 to) {
+        aimDirection.set(to).sub(from).nor();
+        if (aimDirection.isZero()) aimDirection.set(1, 0);
+        return aimDirection;
+    }
+
     /**
      * calculates damage based on the caster's CriticalComponent stats
      */
@@ -49,7 +70,7 @@ public abstract class Spell {
         CriticalComponent crit = critMapper.get(caster);
 
         if (crit != null) {
-            if (Math.random() < crit.critChance) {
+            if (GameRandom.of(GameRandom.Channel.COMBAT).random() < crit.critChance) {
                 finalDamage *= crit.critMultiplier;
                 // Optional: You can add a "Crit!" floating text event here later
             }
@@ -58,6 +79,8 @@ public abstract class Spell {
     }
 
     public String getName() { return name; }
+    public TargetingPolicy getTargetingPolicy() { return targetingPolicy; }
+    public float getTargetingRange() { return targetingRange; }
     public float getDamage() { return damage; }
     public void setDamage(float damage) { this.damage = damage; }
     public float getCooldown() { return cooldown; }
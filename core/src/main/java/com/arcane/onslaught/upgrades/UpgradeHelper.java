@@ -1,5 +1,6 @@
 package com.arcane.onslaught.upgrades;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.Color;
 import com.arcane.onslaught.entities.components.*;
@@ -13,7 +14,7 @@ public class UpgradeHelper {
         return base + stacks;
     }
 
-    public static void applyProjectileUpgrades(Entity projectile, PlayerBuild build, String spellName) {
+    public static void applyProjectileUpgrades(Engine engine, Entity projectile, PlayerBuild build, String spellName) {
         ProjectileComponent proj = projectile.getComponent(ProjectileComponent.class);
         VisualComponent vis = projectile.getComponent(VisualComponent.class);
         VelocityComponent vel = projectile.getComponent(VelocityComponent.class);
@@ -30,7 +31,7 @@ public class UpgradeHelper {
 
         // Elemental Master Synergy
         if (build.hasTag("ultimate") && vis != null && vis.sprite != null) {
-            vis.sprite.setColor(new Color(1f, 0.9f, 0.5f, 1f));
+            vis.sprite.setColor(1f, 0.9f, 0.5f, 1f);
             vis.width *= 1.25f;
             vis.height *= 1.25f;
         }
@@ -51,16 +52,16 @@ public class UpgradeHelper {
             float damage = 3f * dotStacks;
             PoisonComponent poison = projectile.getComponent(PoisonComponent.class);
             if (poison == null) {
-                projectile.add(new PoisonComponent(damage, 2f));
+                projectile.add(engine.createComponent(PoisonComponent.class).init(damage, 2f));
             } else {
                 poison.damagePerSecond += damage;
             }
         }
 
-        applySpellSpecificUpgrades(projectile, build, spellName, pierceBonus);
+        applySpellSpecificUpgrades(engine, projectile, build, spellName, pierceBonus);
     }
 
-    private static void applySpellSpecificUpgrades(Entity projectile, PlayerBuild build, String spellName, int pierceBonus) {
+    private static void applySpellSpecificUpgrades(Engine engine, Entity projectile, PlayerBuild build, String spellName, int pierceBonus) {
         switch (spellName) {
             case "Fireball":
                 ExplosiveComponent explosive = projectile.getComponent(ExplosiveComponent.class);
@@ -79,7 +80,7 @@ public class UpgradeHelper {
                     chain.remainingChains += (2 * lightningStacks);
                 }
                 if (build.hasTag("electrocution")) {
-                    projectile.add(new PoisonComponent(5f, 3f));
+                    projectile.add(engine.createComponent(PoisonComponent.class).init(5f, 3f));
                 }
                 break;
 
@@ -111,7 +112,7 @@ public class UpgradeHelper {
         if (pierceBonus > 0) {
             PierceComponent pierce = projectile.getComponent(PierceComponent.class);
             if (pierce == null) {
-                projectile.add(new PierceComponent(pierceBonus));
+                projectile.add(engine.createComponent(PierceComponent.class).init(pierceBonus));
             } else {
                 pierce.maxPierces += pierceBonus;
                 pierce.remainingPierces += pierceBonus;
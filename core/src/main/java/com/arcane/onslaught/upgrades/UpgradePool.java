@@ -1,6 +1,7 @@
 package com.arcane.onslaught.upgrades;
 
 import com.arcane.onslaught.spells.SpellManager;
+import com.arcane.onslaught.utils.GameRandom;
 import java.util.*;
 
 /**
@@ -8,11 +9,10 @@ import java.util.*;
  */
 public class UpgradePool {
     private List<Upgrade> allUpgrades;
-    private Random random;
+    private final GameRandom.RandomStream random = GameRandom.of(GameRandom.Channel.UPGRADES);
 
     public UpgradePool() {
         allUpgrades = new ArrayList<>();
-        random = new Random();
         registerAllUpgrades();
     }
 
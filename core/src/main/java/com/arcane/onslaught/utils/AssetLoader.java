@@ -0,0 +1,146 @@
+package com.arcane.onslaught.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Staged, asynchronous asset loading on top of libGDX's AssetManager.
+ *
+ * Stages load strictly in order: MENU (what the main menu needs), GAMEPLAY (sprites, effects,
+ * sound effects and music) and BOSS (boss sprites, needed minutes into a run). Files are decoded
+ * on the AssetManager's worker thread; each frame update() spends at most a few milliseconds on
+ * the render thread finishing them, so screens keep drawing while the next stage streams in.
+ * When a stage's files are all loaded, TextureManager packs them into an atlas and SoundManager
+ * takes its sounds, then the next stage is queued.
+ *
+ * Fonts are not part of the stages: FontManager rasterises each one on the render thread the
+ * first time a screen acquires it (or reads it from its disk cache).
+ *
+ * Stage times (from start()) are logged and saved, so a cold launch can be compared with the
+ * previous one. Assets stay resident until dispose(), so later visits to a screen are warm.
+ */
+public class AssetLoader {
+    public enum Stage { MENU, GAMEPLAY, BOSS }
+
+    /** Render-thread time per frame spent finishing loaded files. */
+    public static final int FRAME_BUDGET_MS = 4;
+
+    private static final String PREF_NAME = "onslaught_startup";
+    private static final Stage[] STAGES = Stage.values();
+
+    private static AssetLoader instance;
+    private AssetManager manager;
+
+    // Stage currently in the AssetManager queue; STAGES.length once everything is loaded
+    private int current = -1;
+    // Files declared per stage, known up front so progress can span stages not yet queued
+    private final int[] assetCounts = new int[STAGES.length];
+    private final long[] readyMillis = new long[STAGES.length];
+    private long startTime;
+
+    private AssetLoader() {}
+
+    public static AssetLoader getInstance() {
+        if (instance == null) {
+            instance = new AssetLoader();
+        }
+        return instance;
+    }
+
+    /** Starts loading the first stage. Does nothing if already started. */
+    public void start() {
+        if (manager != null) return;
+        manager = new AssetManager();
+        // AssetErrorListener declares a raw AssetDescriptor; the lambda keeps it out of our code
+        manager.setErrorListener((asset, throwable) ->
+            System.err.println("✗ Failed to load asset: " + asset.fileName));
+        startTime = TimeUtils.millis();
+        for (Stage stage : STAGES) {
+            assetCounts[stage.ordinal()] = TextureManager.getInstance().getFileCount(stage)
+                + SoundManager.getInstance().getFileCount(stage);
+        }
+        queue(0);
+    }
+
+    private void queue(int stage) {
+        current = stage;
+        if (stage >= STAGES.length) return;
+        TextureManager.getInstance().queue(manager, STAGES[stage]);
+        SoundManager.getInstance().queue(manager, STAGES[stage]);
+    }
+
+    /** Loads for at most millis on this thread; returns true once every stage is ready. */
+    public boolean update(int millis) {
+        if (manager == null) return false;
+        while (current < STAGES.length) {
+            if (!manager.update(millis)) return false;
+            finishStage();
+            // Only one atlas build per frame; the next stage starts decoding in the background
+            if (current < STAGES.length) return false;
+        }
+        return true;
+    }
+
+    /** Blocks until the given stage (and every stage before it) is ready. No-op before start(). */
+    public void finishLoading(Stage stage) {
+        if (manager == null) return;
+        while (current <= stage.ordinal()) {
+            manager.finishLoading();
+            finishStage();
+        }
+    }
+
+    private void finishStage() {
+        Stage stage = STAGES[current];
+        TextureManager.getInstance().finishStage(manager, stage);
+        SoundManager.getInstance().finishStage(manager, stage);
+
+        long elapsed = TimeUtils.timeSinceMillis(startTime);
+        readyMillis[current] = elapsed;
+        recordStageTime(stage, elapsed);
+        queue(current + 1);
+    }
+
+    private void recordStageTime(Stage stage, long elapsed) {
+        Preferences prefs = Gdx.app.getPreferences(PREF_NAME);
+        String key = "ready_" + stage.name().toLowerCase();
+        long previous = prefs.getLong(key, -1);
+        System.out.println("Assets: " + stage + " ready " + elapsed + " ms after launch ("
+            + assetCounts[stage.ordinal()] + " files"
+            + (previous >= 0 ? ", previous launch " + previous + " ms)" : ", first launch)"));
+        prefs.putLong(key, elapsed);
+        prefs.flush();
+    }
+
+    public boolean isReady(Stage stage) {
+        return manager != null && current > stage.ordinal();
+    }
+
+    /** Fraction of the files up to and including the given stage that are loaded, 0 to 1. */
+    public float getProgress(Stage stage) {
+        if (manager == null) return 0f;
+        if (isReady(stage)) return 1f;
+        float total = 0f, done = 0f;
+        for (int i = 0; i <= stage.ordinal(); i++) {
+            total += assetCounts[i];
+            if (i < current) done += assetCounts[i];
+        }
+        if (current <= stage.ordinal()) done += manager.getProgress() * assetCounts[current];
+        return total > 0f ? done / total : 1f;
+    }
+
+    /** Milliseconds from start() until the stage was ready, or -1 if it isn't yet. */
+    public long getReadyMillis(Stage stage) {
+        return isReady(stage) ? readyMillis[stage.ordinal()] : -1;
+    }
+
+    public void dispose() {
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+        current = -1;
+    }
+}
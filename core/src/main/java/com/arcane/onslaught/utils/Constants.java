@@ -29,6 +29,9 @@ public class Constants {
     public static final float XP_ORB_SIZE = 12f;
     public static final float XP_ORB_COLLECTION_RANGE = 50f;
     public static final float XP_TO_LEVEL_BASE = 10f;
+    public static final int XP_ORB_MERGE_THRESHOLD = 150; // orbs on the floor before nearby ones merge
+    public static final float XP_ORB_MERGE_RADIUS = 48f;
+    public static final int XP_ORB_CAP = 400; // past this, new XP goes into the nearest orb
 
     // Physics
     public static final float WORLD_TO_BOX = 0.01f;
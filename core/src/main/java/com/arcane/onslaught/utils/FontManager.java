@@ -3,14 +3,83 @@ package com.arcane.onslaught.utils;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
 
+/**
+ * Shared, reference-counted cache of generated fonts.
+ *
+ * Each distinct (font file, size, glyph colour, tint, border, shadow, filter) is rasterised once
+ * and the same BitmapFont is handed to every screen or system that asks for it. acquireFont()
+ * adds a reference, releaseFont() drops one. Fonts nobody references are kept for reuse (up to
+ * MAX_IDLE_FONTS, oldest released evicted first), so switching back and forth between screens
+ * never regenerates a glyph atlas. One FreeTypeFontGenerator is kept per font file.
+ *
+ * Shared fonts get their tint and scale reset on every acquire; holders that change either
+ * while drawing should set them before each draw, as the screens already do.
+ *
+ * With -Darcane.fontcache=true, generated fonts are also written to fontcache/ (a .fnt file and
+ * PNG pages per font) and later launches load those instead of rasterising.
+ */
 public class FontManager {
+    public static final String DEFAULT_FONT = "fonts/Silver.ttf";
+    public static final String TITLE_FONT = "fonts/DungeonFont.ttf";
+    public static final String DISK_CACHE_PROPERTY = "arcane.fontcache";
+
+    private static final int MAX_IDLE_FONTS = 16;
+    private static final String CACHE_DIR = "fontcache/";
+    // Bump when generation parameters change so stale cached files are ignored
+    private static final int CACHE_VERSION = 1;
+    private static final Color SHADOW_COLOR = new Color(0, 0, 0, 0.5f);
+
     private static FontManager instance;
-    private FreeTypeFontGenerator generator;
-    private boolean isLoaded = false;
+
+    private static final class CachedFont {
+        final String key;
+        final BitmapFont font;
+        final PixmapPacker packer; // Owns the glyph pages of generated fonts; null otherwise
+        final Color tint;
+        final float scale;
+        int refs;
+        long releasedAt;
+
+        CachedFont(String key, BitmapFont font, PixmapPacker packer, Color tint, float scale) {
+            this.key = key;
+            this.font = font;
+            this.packer = packer;
+            this.tint = new Color(tint);
+            this.scale = scale;
+        }
+
+        void dispose() {
+            font.dispose();
+            if (packer != null) packer.dispose();
+        }
+    }
+
+    private final Map<String, FreeTypeFontGenerator> generators = new HashMap<>();
+    private final Map<String, CachedFont> cache = new HashMap<>();
+    private final Map<BitmapFont, CachedFont> byFont = new IdentityHashMap<>();
+    private final boolean diskCache = Boolean.getBoolean(DISK_CACHE_PROPERTY);
+    private long releaseCounter = 0;
+    private int idleCount = 0;
+
+    // --- Stats ---
+    private int generated = 0;
+    private int loadedFromDisk = 0;
+    private int hits = 0;
 
     private FontManager() {}
 
@@ -21,51 +90,227 @@ public class FontManager {
         return instance;
     }
 
-    public void load() {
-        if (isLoaded) return;
+    /** The game's standard text font: Silver with the colour baked into the glyphs and smooth scaling. */
+    public BitmapFont acquireFont(int size, Color color) {
+        return acquire(DEFAULT_FONT, size, color, Color.WHITE, 2, 3, true);
+    }
 
-        FileHandle fontFile = Gdx.files.internal("fonts/Silver.ttf");
-        if (fontFile.exists()) {
-            generator = new FreeTypeFontGenerator(fontFile);
-            isLoaded = true;
+    /** White glyphs tinted with font.setColor, so the tint can be changed freely while drawing. */
+    public BitmapFont acquireTintedFont(String file, int size, Color tint) {
+        return acquireTintedFont(file, size, tint, 2, 3);
+    }
+
+    public BitmapFont acquireTintedFont(String file, int size, Color tint, int borderWidth, int shadowOffset) {
+        return acquire(file, size, Color.WHITE, tint, borderWidth, shadowOffset, false);
+    }
+
+    /** Drops one reference. Unknown fonts (e.g. already released at shutdown) are ignored. */
+    public void releaseFont(BitmapFont font) {
+        if (font == null) return;
+        CachedFont cached = byFont.get(font);
+        if (cached == null || cached.refs == 0) return;
+        if (--cached.refs == 0) {
+            cached.releasedAt = ++releaseCounter;
+            idleCount++;
+            if (idleCount > MAX_IDLE_FONTS) evictOldestIdle();
+        }
+    }
+
+    private BitmapFont acquire(String file, int size, Color color, Color tint, int borderWidth, int shadowOffset, boolean linear) {
+        String key = keyFor(file, size, color, tint, borderWidth, shadowOffset, linear);
+        CachedFont cached = cache.get(key);
+        if (cached != null) {
+            hits++;
         } else {
-            System.out.println("Font file not found: fonts/Silver.ttf");
+            cached = create(key, file, size, color, tint, borderWidth, shadowOffset, linear);
+            cache.put(key, cached);
+            byFont.put(cached.font, cached);
         }
+        if (cached.refs++ == 0 && cached.releasedAt != 0) idleCount--;
+
+        // Undo whatever the previous holder left behind
+        cached.font.setColor(cached.tint);
+        cached.font.getData().setScale(cached.scale);
+        return cached.font;
     }
 
-    public BitmapFont generateFont(int size) {
-        return generateFont(size, Color.WHITE);
+    private static String keyFor(String file, int size, Color color, Color tint, int borderWidth, int shadowOffset, boolean linear) {
+        String name = file.substring(file.lastIndexOf('/') + 1).replace(".ttf", "");
+        return name + "-" + size + "-" + color + "-" + tint + "-b" + borderWidth + "-s" + shadowOffset
+            + (linear ? "-linear" : "-nearest");
     }
 
-    public BitmapFont generateFont(int size, Color color) {
-        if (!isLoaded) {
+    private CachedFont create(String key, String file, int size, Color color, Color tint, int borderWidth, int shadowOffset, boolean linear) {
+        if (!Gdx.files.internal(file).exists()) {
             // Fallback if TTF missing
-            BitmapFont font = new BitmapFont();
-            font.getData().setScale(size / 16f);
-            font.setColor(color);
-            return font;
+            System.out.println("Font file not found: " + file);
+            return fallback(key, size, color, tint);
+        }
+
+        Texture.TextureFilter filter = linear ? Texture.TextureFilter.Linear : Texture.TextureFilter.Nearest;
+        FileHandle cachedFnt = diskCache ? cacheFile(key, file, ".fnt") : null;
+        if (cachedFnt != null && cachedFnt.exists()) {
+            try {
+                BitmapFont font = new BitmapFont(cachedFnt);
+                for (TextureRegion region : font.getRegions()) region.getTexture().setFilter(filter, filter);
+                loadedFromDisk++;
+                return new CachedFont(key, font, null, tint, 1f);
+            } catch (GdxRuntimeException e) {
+                System.err.println("⚠ Ignoring unreadable font cache: " + cachedFnt.path());
+            }
         }
 
         FreeTypeFontParameter parameter = new FreeTypeFontParameter();
         parameter.size = size;
         parameter.color = color;
-        parameter.borderWidth = 2;
+        parameter.borderWidth = borderWidth;
         parameter.borderColor = Color.BLACK;
-        parameter.shadowOffsetX = 3;
-        parameter.shadowOffsetY = 3;
-        parameter.shadowColor = new Color(0, 0, 0, 0.5f);
-        // Smoother scaling
-        parameter.minFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Linear;
-        parameter.magFilter = com.badlogic.gdx.graphics.Texture.TextureFilter.Linear;
+        parameter.shadowOffsetX = shadowOffset;
+        parameter.shadowOffsetY = shadowOffset;
+        parameter.shadowColor = SHADOW_COLOR;
+        parameter.minFilter = filter;
+        parameter.magFilter = filter;
 
-        return generator.generateFont(parameter);
+        // Our own packer keeps the page pixmaps around so they can be written to the disk cache
+        int cell = size + borderWidth * 2 + shadowOffset + 2;
+        int pageSize = MathUtils.nextPowerOfTwo((int) Math.ceil(Math.sqrt((double) cell * cell * parameter.characters.length())));
+        pageSize = Math.min(pageSize, FreeTypeFontGenerator.getMaxTextureSize());
+        parameter.packer = new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, 1, false, new PixmapPacker.SkylineStrategy());
+
+        try {
+            BitmapFont font = generatorFor(file).generateFont(parameter);
+            generated++;
+            if (cachedFnt != null) writeToDisk(cachedFnt, key, size, font, parameter.packer);
+            return new CachedFont(key, font, parameter.packer, tint, 1f);
+        } catch (Exception e) {
+            parameter.packer.dispose();
+            System.err.println("✗ Failed to generate font: " + key);
+            return fallback(key, size, color, tint);
+        }
+    }
+
+    // libGDX's built-in font has white glyphs, so the requested glyph colour goes into the tint
+    private static CachedFont fallback(String key, int size, Color color, Color tint) {
+        return new CachedFont(key, new BitmapFont(), null, new Color(color).mul(tint), size / 16f);
+    }
+
+    private FreeTypeFontGenerator generatorFor(String file) {
+        FreeTypeFontGenerator generator = generators.get(file);
+        if (generator == null) {
+            generator = new FreeTypeFontGenerator(Gdx.files.internal(file));
+            generators.put(file, generator);
+        }
+        return generator;
+    }
+
+    private void evictOldestIdle() {
+        CachedFont oldest = null;
+        for (CachedFont cached : cache.values()) {
+            if (cached.refs == 0 && (oldest == null || cached.releasedAt < oldest.releasedAt)) oldest = cached;
+        }
+        if (oldest == null) return;
+        cache.remove(oldest.key);
+        byFont.remove(oldest.font);
+        oldest.dispose();
+        idleCount--;
+    }
+
+    // --- Disk cache ---
+
+    // The TTF's size is part of the name, so replacing a font file invalidates its cached pages
+    private FileHandle cacheFile(String key, String ttf, String suffix) {
+        return Gdx.files.local(CACHE_DIR + key + "-" + Gdx.files.internal(ttf).length() + "-v" + CACHE_VERSION + suffix);
+    }
+
+    /** Writes an AngelCode text .fnt plus PNG pages that new BitmapFont(fnt) reads back to the same font. */
+    private void writeToDisk(FileHandle fnt, String key, int size, BitmapFont font, PixmapPacker packer) {
+        try {
+            BitmapFont.BitmapFontData data = font.getData();
+            String stem = fnt.nameWithoutExtension();
+            int pages = packer.getPages().size;
+            for (int i = 0; i < pages; i++) {
+                PixmapIO.writePNG(fnt.sibling(stem + "_" + i + ".png"), packer.getPages().get(i).getPixmap());
+            }
+
+            StringBuilder out = new StringBuilder();
+            out.append("info face=\"").append(key).append("\" size=").append(size)
+                .append(" bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1 padding=")
+                .append((int) data.padTop).append(',').append((int) data.padRight).append(',')
+                .append((int) data.padBottom).append(',').append((int) data.padLeft).append(" spacing=0,0\n");
+            out.append("common lineHeight=").append((int) data.lineHeight).append(" base=").append((int) data.capHeight)
+                .append(" scaleW=").append(packer.getPageWidth()).append(" scaleH=").append(packer.getPageHeight())
+                .append(" pages=").append(pages).append(" packed=0\n");
+            for (int i = 0; i < pages; i++) {
+                out.append("page id=").append(i).append(" file=\"").append(stem).append('_').append(i).append(".png\"\n");
+            }
+
+            int count = 0;
+            StringBuilder chars = new StringBuilder();
+            StringBuilder kernings = new StringBuilder();
+            int kerningCount = 0;
+            for (BitmapFont.Glyph[] page : data.glyphs) {
+                if (page == null) continue;
+                for (BitmapFont.Glyph glyph : page) {
+                    if (glyph == null) continue;
+                    appendGlyph(chars, glyph, glyph.id);
+                    count++;
+                    for (BitmapFont.Glyph[] secondPage : data.glyphs) {
+                        if (secondPage == null) continue;
+                        for (BitmapFont.Glyph second : secondPage) {
+                            if (second == null) continue;
+                            int amount = glyph.getKerning((char) second.id);
+                            if (amount == 0) continue;
+                            kernings.append("kerning first=").append(glyph.id).append(" second=").append(second.id)
+                                .append(" amount=").append(amount).append('\n');
+                            kerningCount++;
+                        }
+                    }
+                }
+            }
+            if (data.missingGlyph != null && data.getGlyph((char) 0) == null) {
+                appendGlyph(chars, data.missingGlyph, 0); // id 0 is read back as the missing glyph
+                count++;
+            }
+            out.append("chars count=").append(count).append('\n').append(chars);
+            out.append("kernings count=").append(kerningCount).append('\n').append(kernings);
+            // Exact metrics, so nothing is re-derived from the glyphs on load
+            out.append("metrics ascent=").append(data.ascent).append(" descent=").append(data.descent)
+                .append(" down=").append(data.down).append(" capHeight=").append(data.capHeight)
+                .append(" lineHeight=").append(data.lineHeight).append(" spaceXAdvance=").append(data.spaceXadvance)
+                .append(" xHeight=").append(data.xHeight).append('\n');
+            fnt.writeString(out.toString(), false, "UTF-8");
+        } catch (GdxRuntimeException e) {
+            System.err.println("⚠ Could not write font cache: " + fnt.path());
+        }
+    }
+
+    // Text .fnt stores y offsets from the top of the line; BitmapFontData keeps them from the baseline
+    private static void appendGlyph(StringBuilder out, BitmapFont.Glyph glyph, int id) {
+        out.append("char id=").append(id).append(" x=").append(glyph.srcX).append(" y=").append(glyph.srcY)
+            .append(" width=").append(glyph.width).append(" height=").append(glyph.height)
+            .append(" xoffset=").append(glyph.xoffset).append(" yoffset=").append(-(glyph.height + glyph.yoffset))
+            .append(" xadvance=").append(glyph.xadvance).append(" page=").append(glyph.page).append(" chnl=0\n");
+    }
+
+    // --- Stats ---
+    public int getCachedCount() { return cache.size(); }
+    public int getIdleCount() { return idleCount; }
+
+    public String getStatsSummary() {
+        return "Fonts: " + cache.size() + " cached (" + idleCount + " idle), " + generated + " generated, "
+            + loadedFromDisk + " from disk cache, " + hits + " shared";
     }
 
     public void dispose() {
-        if (generator != null) {
+        for (Iterator<CachedFont> it = cache.values().iterator(); it.hasNext(); ) {
+            it.next().dispose();
+            it.remove();
+        }
+        byFont.clear();
+        idleCount = 0;
+        for (FreeTypeFontGenerator generator : generators.values()) {
             generator.dispose();
-            generator = null;
         }
-        isLoaded = false;
+        generators.clear();
     }
 }
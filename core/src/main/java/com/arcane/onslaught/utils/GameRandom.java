@@ -0,0 +1,115 @@
+package com.arcane.onslaught.utils;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Seedable source of all gameplay randomness.
+ * Each subsystem draws from its own stream, derived from the run seed, so extra rolls
+ * in one place (e.g. a new sound variation) never shift spawn waves or crits.
+ * Pass -Darcane.seed=<number> to replay a run; otherwise every run gets a fresh seed.
+ */
+public class GameRandom {
+    public static final String SEED_PROPERTY = "arcane.seed";
+
+    /** Independent streams, one per subsystem. */
+    public enum Channel {
+        SPAWN,      // wave timing, enemy types, spawn positions, boss archetypes
+        AI,         // boss skill picks and teleports
+        COMBAT,     // crits, health drops
+        UPGRADES,   // level-up offers
+        AUDIO       // pitch variation; cosmetic only
+    }
+
+    /** A RandomXS128 with MathUtils-style helpers, so call sites read the same as before. */
+    public static class RandomStream extends RandomXS128 {
+        private static final long serialVersionUID = 1L;
+
+        /** Returns a random number between 0 (inclusive) and 1 (exclusive). */
+        public float random() {
+            return nextFloat();
+        }
+
+        /** Returns a random number between 0 (inclusive) and range (inclusive). */
+        public int random(int range) {
+            return nextInt(range + 1);
+        }
+
+        /** Returns a random number between start (inclusive) and end (inclusive). */
+        public int random(int start, int end) {
+            return start + nextInt(end - start + 1);
+        }
+
+        /** Returns a random number between 0 (inclusive) and range (exclusive). */
+        public float random(float range) {
+            return nextFloat() * range;
+        }
+
+        /** Returns a random number between start (inclusive) and end (exclusive). */
+        public float random(float start, float end) {
+            return start + nextFloat() * (end - start);
+        }
+
+        public boolean randomBoolean() {
+            return nextBoolean();
+        }
+    }
+
+    private static GameRandom instance;
+
+    private final RandomStream[] streams = new RandomStream[Channel.values().length];
+    private long seed;
+
+    private GameRandom() {
+        for (int i = 0; i < streams.length; i++) streams[i] = new RandomStream();
+        reseed(initialSeed());
+    }
+
+    public static GameRandom getInstance() {
+        if (instance == null) {
+            instance = new GameRandom();
+        }
+        return instance;
+    }
+
+    /** Shorthand for getInstance().stream(channel). */
+    public static RandomStream of(Channel channel) {
+        return getInstance().stream(channel);
+    }
+
+    /**
+     * Reseeds every stream in place. Systems keep their stream references, so this can be
+     * called at the start of each run without rewiring anything.
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        for (int i = 0; i < streams.length; i++) {
+            // RandomXS128.setSeed scrambles the value, so distinct offsets give unrelated streams
+            streams[i].setSeed(seed + 0x9E3779B97F4A7C15L * (i + 1));
+        }
+    }
+
+    /** Starts a new run: the -Darcane.seed value if set, otherwise a fresh seed. Returns the seed used. */
+    public long newRun() {
+        reseed(initialSeed());
+        System.out.println("Run seed: " + seed);
+        return seed;
+    }
+
+    public RandomStream stream(Channel channel) {
+        return streams[channel.ordinal()];
+    }
+
+    public long getSeed() { return seed; }
+
+    private static long initialSeed() {
+        String fixed = System.getProperty(SEED_PROPERTY);
+        if (fixed != null) {
+            try {
+                return Long.parseLong(fixed.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("Ignoring invalid " + SEED_PROPERTY + ": " + fixed);
+            }
+        }
+        return System.nanoTime() ^ 0x5DEECE66DL;
+    }
+}
@@ -1,9 +1,12 @@
 package com.arcane.onslaught.utils;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class SoundManager {
@@ -21,9 +24,18 @@ public class SoundManager {
     private Music currentMusic;
     private String currentMusicKey;
 
+    // Key -> file for each loading stage
+    private final Map<AssetLoader.Stage, Map<String, String>> soundManifest = new EnumMap<>(AssetLoader.Stage.class);
+    private final Map<AssetLoader.Stage, Map<String, String>> musicManifest = new EnumMap<>(AssetLoader.Stage.class);
+
     private SoundManager() {
         sounds = new HashMap<>();
         musicTracks = new HashMap<>();
+        for (AssetLoader.Stage stage : AssetLoader.Stage.values()) {
+            soundManifest.put(stage, new LinkedHashMap<>());
+            musicManifest.put(stage, new LinkedHashMap<>());
+        }
+        declareManifest();
     }
 
     public static SoundManager getInstance() {
@@ -33,32 +45,58 @@ public class SoundManager {
         return instance;
     }
 
-    public void loadSounds() {
-        // SFX
-        loadSound("cast", "sounds/sfx_cast.wav");
-        loadSound("hit", "sounds/sfx_hit.wav");
-        loadSound("explosion", "sounds/sfx_explosion.wav");
-        loadSound("levelup", "sounds/sfx_levelup.wav");
-        loadSound("pickup", "sounds/sfx_pickup.wav");
-        loadSound("ui_click", "sounds/sfx_ui_click.wav");
-        loadSound("ui_hover", "sounds/sfx_ui_hover.wav");
-        loadSound("fanfare", "sounds/sfx_fanfare.wav");
-        loadSound("spawn_breach", "sounds/sfx_spawn_breach.wav");
-        loadSound("gameover", "sounds/sfx_gameover.wav");
+    private void declareManifest() {
+        // Menu SFX
+        sound(AssetLoader.Stage.MENU, "fanfare", "sounds/sfx_fanfare.wav");
+        sound(AssetLoader.Stage.MENU, "ui_click", "sounds/sfx_ui_click.wav");
+        sound(AssetLoader.Stage.MENU, "ui_hover", "sounds/sfx_ui_hover.wav");
+
+        // Gameplay SFX
+        sound(AssetLoader.Stage.GAMEPLAY, "cast", "sounds/sfx_cast.wav");
+        sound(AssetLoader.Stage.GAMEPLAY, "hit", "sounds/sfx_hit.wav");
+        sound(AssetLoader.Stage.GAMEPLAY, "explosion", "sounds/sfx_explosion.wav");
+        sound(AssetLoader.Stage.GAMEPLAY, "levelup", "sounds/sfx_levelup.wav");
+        sound(AssetLoader.Stage.GAMEPLAY, "pickup", "sounds/sfx_pickup.wav");
+        sound(AssetLoader.Stage.GAMEPLAY, "spawn_breach", "sounds/sfx_spawn_breach.wav");
+        sound(AssetLoader.Stage.GAMEPLAY, "gameover", "sounds/sfx_gameover.wav");
+
+        // MUSIC (streamed, so loading only opens the file)
+        music(AssetLoader.Stage.GAMEPLAY, "abyss", "sounds/bgm_abyss.wav");
+    }
+
+    private void sound(AssetLoader.Stage stage, String key, String path) {
+        soundManifest.get(stage).put(key, path);
+    }
+
+    private void music(AssetLoader.Stage stage, String key, String path) {
+        musicManifest.get(stage).put(key, path);
+    }
 
-        // MUSIC
-        loadMusic("abyss", "sounds/bgm_abyss.wav");
+    public int getFileCount(AssetLoader.Stage stage) {
+        return soundManifest.get(stage).size() + musicManifest.get(stage).size();
     }
 
-    private void loadSound(String key, String path) {
-        if (Gdx.files.internal(path).exists()) {
-            sounds.put(key, Gdx.audio.newSound(Gdx.files.internal(path)));
+    /** Queues the stage's sounds and music on the AssetManager; missing files are skipped. */
+    public void queue(AssetManager manager, AssetLoader.Stage stage) {
+        for (String path : soundManifest.get(stage).values()) {
+            if (Gdx.files.internal(path).exists()) manager.load(path, Sound.class);
+        }
+        for (String path : musicManifest.get(stage).values()) {
+            if (Gdx.files.internal(path).exists()) manager.load(path, Music.class);
         }
     }
 
-    private void loadMusic(String key, String path) {
-        if (Gdx.files.internal(path).exists()) {
-            musicTracks.put(key, Gdx.audio.newMusic(Gdx.files.internal(path)));
+    /** Makes the stage's loaded sounds playable. The AssetManager keeps ownership of them. */
+    public void finishStage(AssetManager manager, AssetLoader.Stage stage) {
+        for (Map.Entry<String, String> entry : soundManifest.get(stage).entrySet()) {
+            if (manager.isLoaded(entry.getValue())) {
+                sounds.put(entry.getKey(), manager.get(entry.getValue(), Sound.class));
+            }
+        }
+        for (Map.Entry<String, String> entry : musicManifest.get(stage).entrySet()) {
+            if (manager.isLoaded(entry.getValue())) {
+                musicTracks.put(entry.getKey(), manager.get(entry.getValue(), Music.class));
+            }
         }
     }
 
@@ -128,9 +166,11 @@ public class SoundManager {
     public float getSFXVolume() { return sfxVolume; }
     public float getMusicVolume() { return musicVolume; }
 
+    /** Stops playback and forgets the loaded sounds; AssetLoader.dispose() releases them. */
     public void dispose() {
-        for (Sound sound : sounds.values()) sound.dispose();
-        for (Music music : musicTracks.values()) music.dispose();
+        stopMusic();
+        currentMusic = null;
+        currentMusicKey = null;
         sounds.clear();
         musicTracks.clear();
     }
@@ -1,23 +1,67 @@
 package com.arcane.onslaught.utils;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Manages loading and caching of game textures.
+ * Images are decoded by AssetLoader's AssetManager, one stage at a time. Each stage's sprites are
+ * packed into a runtime atlas so the SpriteBatch can draw them without switching textures;
+ * large full-screen images stay standalone Textures.
  * FIXED: Auto-generates a fallback texture so missing files don't crash the game.
  */
 public class TextureManager {
+    public static final int ATLAS_PAGE_SIZE = 1024;
+    private static final int ATLAS_PADDING = 2;
+
     private static TextureManager instance;
-    private Map<String, Texture> textures;
+    private Map<String, Texture> textures;       // Standalone (unpacked) textures
+    private Map<String, TextureRegion> regions;  // Every sprite, packed or not
     private Texture fallbackTexture; // The safety net
+    private TextureRegion fallbackRegion;
+
+    // One atlas per loading stage
+    private final List<TextureAtlas> atlases = new ArrayList<>();
+    // Oversized sprites turned into textures here; the AssetManager owns the rest
+    private final List<Texture> ownedTextures = new ArrayList<>();
+
+    private static final TextureLoader.TextureParameter STANDALONE_PARAMS = new TextureLoader.TextureParameter();
+    static {
+        STANDALONE_PARAMS.minFilter = Texture.TextureFilter.Nearest;
+        STANDALONE_PARAMS.magFilter = Texture.TextureFilter.Nearest;
+    }
+
+    private static final class Entry {
+        final String key;
+        final String path;
+        final boolean standalone;
+
+        Entry(String key, String path, boolean standalone) {
+            this.key = key;
+            this.path = path;
+            this.standalone = standalone;
+        }
+    }
+
+    private final Map<AssetLoader.Stage, List<Entry>> manifest = new EnumMap<>(AssetLoader.Stage.class);
 
     private TextureManager() {
         textures = new HashMap<>();
+        regions = new HashMap<>();
+        for (AssetLoader.Stage stage : AssetLoader.Stage.values()) manifest.put(stage, new ArrayList<>());
+        declareManifest();
         createFallbackTexture();
     }
 
@@ -37,81 +81,144 @@ public class TextureManager {
         pixmap.setColor(Color.MAGENTA); // Hot pink to make it obvious it's missing
         pixmap.fill();
         fallbackTexture = new Texture(pixmap);
+        fallbackRegion = new TextureRegion(fallbackTexture);
         pixmap.dispose();
     }
 
-    public void loadTextures() {
-        System.out.println("Loading textures...");
+    // What each loading stage brings in; standalone entries stay separate Textures
+    private void declareManifest() {
+        // Menu: nothing yet, the menu draws with shapes and fonts
 
         // Background & Other Assets
-        loadTexture("background", "sprites/background.png");
-        loadTexture("magic_circle", "sprites/magic_circle.png");
-        loadTexture("teleport_beam", "sprites/teleport_beam.png");
-        loadTexture("effect_revive", "sprites/effect_revive.png");
-        loadTexture("effect_heal", "sprites/effect_heal.png");
-        loadTexture("effect_poison", "sprites/effect_poison.png");
-        loadTexture("vfx_steam", "sprites/vfx_steam.png");
-        loadTexture("vfx_ice_shatter", "sprites/vfx_ice_shatter.png");
-        loadTexture("vfx_muzzle_flash", "sprites/vfx_muzzle_flash.png");
-        //textures.put("border", new Texture(Gdx.files.internal("textures/border.png")));
-        //textures.put("border", new Texture(Gdx.files.internal("textures/border_abyss.png")));
-        textures.put("border", new Texture(Gdx.files.internal("textures/border_abyss_hd.png")));
+        standalone(AssetLoader.Stage.GAMEPLAY, "background", "sprites/background.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "magic_circle", "sprites/magic_circle.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "teleport_beam", "sprites/teleport_beam.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "effect_revive", "sprites/effect_revive.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "effect_heal", "sprites/effect_heal.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "effect_poison", "sprites/effect_poison.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "vfx_steam", "sprites/vfx_steam.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "vfx_ice_shatter", "sprites/vfx_ice_shatter.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "vfx_muzzle_flash", "sprites/vfx_muzzle_flash.png");
+        //standalone(AssetLoader.Stage.GAMEPLAY, "border", "textures/border.png");
+        //standalone(AssetLoader.Stage.GAMEPLAY, "border", "textures/border_abyss.png");
+        standalone(AssetLoader.Stage.GAMEPLAY, "border", "textures/border_abyss_hd.png");
 
         // Player
-        loadTexture("player", "sprites/player/player.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "player", "sprites/player/player.png");
 
         // Orbs
-        loadTexture("xp_orb", "sprites/orbs/xp_orb.png");
-        loadTexture("health_orb", "sprites/orbs/health_orb.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "xp_orb", "sprites/orbs/xp_orb.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "health_orb", "sprites/orbs/health_orb.png");
 
         // Enemies
-        loadTexture("zombie", "sprites/enemies/zombie.png");
-        loadTexture("imp", "sprites/enemies/imp.png");
-        loadTexture("tank", "sprites/enemies/tank.png");
-        loadTexture("runner", "sprites/enemies/runner.png");
-        loadTexture("swarm", "sprites/enemies/swarm.png");
-        loadTexture("brute", "sprites/enemies/brute.png");
-        loadTexture("ghost", "sprites/enemies/ghost.png");
-        loadTexture("elite", "sprites/enemies/elite.png");
-        loadTexture("slime", "sprites/enemies/slime.png");
-
-        // Boss
-        textures.put("boss_fire", new Texture(Gdx.files.internal("textures/boss_fire.png")));
-        textures.put("boss_frost", new Texture(Gdx.files.internal("textures/boss_frost.png")));
-        textures.put("boss_poison", new Texture(Gdx.files.internal("textures/boss_poison.png")));
-        textures.put("boss_arcane", new Texture(Gdx.files.internal("textures/boss_arcane.png")));
-        textures.put("boss_electric", new Texture(Gdx.files.internal("textures/boss_electric.png")));
-        textures.put("boss_void", new Texture(Gdx.files.internal("textures/boss_void.png"))); // Default
+        packed(AssetLoader.Stage.GAMEPLAY, "zombie", "sprites/enemies/zombie.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "imp", "sprites/enemies/imp.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "tank", "sprites/enemies/tank.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "runner", "sprites/enemies/runner.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "swarm", "sprites/enemies/swarm.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "brute", "sprites/enemies/brute.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "ghost", "sprites/enemies/ghost.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "elite", "sprites/enemies/elite.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "slime", "sprites/enemies/slime.png");
 
         // Spells (Add these if you have them, otherwise fallback will be used)
-        loadTexture("fireball", "sprites/spells/fireball.png");
-        loadTexture("ice_shard", "sprites/spells/ice_shard.png");
-        loadTexture("lightning", "sprites/spells/lightning.png");
-        loadTexture("poison", "sprites/spells/poison.png");
-        loadTexture("magic_bolt", "sprites/spells/magic_bolt.png");
-        loadTexture("arcane_missile", "sprites/spells/arcane_missile.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "fireball", "sprites/spells/fireball.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "ice_shard", "sprites/spells/ice_shard.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "lightning", "sprites/spells/lightning.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "poison", "sprites/spells/poison.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "magic_bolt", "sprites/spells/magic_bolt.png");
+        packed(AssetLoader.Stage.GAMEPLAY, "arcane_missile", "sprites/spells/arcane_missile.png");
 
-        System.out.println("Textures loaded: " + textures.size());
+        // Boss (first needed minutes into a run, so loaded last)
+        packed(AssetLoader.Stage.BOSS, "boss_fire", "textures/boss_fire.png");
+        packed(AssetLoader.Stage.BOSS, "boss_frost", "textures/boss_frost.png");
+        packed(AssetLoader.Stage.BOSS, "boss_poison", "textures/boss_poison.png");
+        packed(AssetLoader.Stage.BOSS, "boss_arcane", "textures/boss_arcane.png");
+        packed(AssetLoader.Stage.BOSS, "boss_electric", "textures/boss_electric.png");
+        packed(AssetLoader.Stage.BOSS, "boss_void", "textures/boss_void.png"); // Default
+    }
+
+    private void packed(AssetLoader.Stage stage, String key, String path) {
+        manifest.get(stage).add(new Entry(key, path, false));
+    }
+
+    private void standalone(AssetLoader.Stage stage, String key, String path) {
+        manifest.get(stage).add(new Entry(key, path, true));
+    }
+
+    public int getFileCount(AssetLoader.Stage stage) {
+        return manifest.get(stage).size();
+    }
+
+    /** Queues the stage's images on the AssetManager, which decodes them off the render thread. */
+    public void queue(AssetManager manager, AssetLoader.Stage stage) {
+        for (Entry entry : manifest.get(stage)) {
+            if (!Gdx.files.internal(entry.path).exists()) {
+                System.err.println("⚠ Texture file missing: " + entry.path);
+                continue;
+            }
+            if (entry.standalone) manager.load(entry.path, Texture.class, STANDALONE_PARAMS);
+            else manager.load(entry.path, Pixmap.class);
+        }
     }
 
-    private void loadTexture(String key, String path) {
-        try {
-            // Check if file exists before trying to load
-            if (Gdx.files.internal(path).exists()) {
-                Texture texture = new Texture(Gdx.files.internal(path));
+    /**
+     * Takes the stage's loaded images: sprites are packed into one atlas for the stage (the decoded
+     * pixmaps are released afterwards), images larger than a page become standalone textures.
+     */
+    public void finishStage(AssetManager manager, AssetLoader.Stage stage) {
+        PixmapPacker packer = null;
+        int maxSize = ATLAS_PAGE_SIZE - ATLAS_PADDING * 2;
+
+        for (Entry entry : manifest.get(stage)) {
+            if (!manager.isLoaded(entry.path)) continue; // missing or failed; the fallback is used
+
+            if (entry.standalone) {
+                Texture texture = manager.get(entry.path, Texture.class);
+                textures.put(entry.key, texture);
+                regions.put(entry.key, new TextureRegion(texture));
+                System.out.println("✓ Loaded: " + entry.key);
+                continue;
+            }
+
+            Pixmap pixmap = manager.get(entry.path, Pixmap.class);
+            if (pixmap.getWidth() > maxSize || pixmap.getHeight() > maxSize) {
+                Texture texture = new Texture(pixmap);
                 texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-                textures.put(key, texture);
-                System.out.println("✓ Loaded: " + key);
+                ownedTextures.add(texture);
+                textures.put(entry.key, texture);
+                regions.put(entry.key, new TextureRegion(texture));
+                System.out.println("✓ Loaded: " + entry.key);
             } else {
-                System.err.println("⚠ Texture file missing: " + path);
+                if (packer == null) {
+                    packer = new PixmapPacker(ATLAS_PAGE_SIZE, ATLAS_PAGE_SIZE, Pixmap.Format.RGBA8888, ATLAS_PADDING, true);
+                }
+                packer.pack(entry.key, pixmap);
+                regions.put(entry.key, null); // Resolved in buildAtlas()
+                System.out.println("✓ Packed: " + entry.key);
             }
-        } catch (Exception e) {
-            System.err.println("✗ Failed to load texture: " + path);
+            manager.unload(entry.path); // The packer or texture holds its own copy
+        }
+
+        if (packer != null) buildAtlas(packer);
+        System.out.println("Textures loaded: " + regions.size() + " (" + getAtlasPageCount() + " atlas page(s))");
+    }
+
+    private void buildAtlas(PixmapPacker packer) {
+        TextureAtlas atlas = packer.generateTextureAtlas(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        packer.dispose();
+        atlases.add(atlas);
+
+        for (Map.Entry<String, TextureRegion> entry : regions.entrySet()) {
+            if (entry.getValue() != null) continue;
+            TextureRegion region = atlas.findRegion(entry.getKey());
+            entry.setValue(region != null ? region : fallbackRegion);
         }
     }
 
     /**
-     * Returns the requested texture, or the fallback if missing.
+     * Returns the requested standalone texture (e.g. background, border), or the fallback if missing.
+     * Packed sprites have no texture of their own; use getRegion() for those.
      * NEVER returns null.
      */
     public Texture getTexture(String key) {
@@ -122,15 +229,37 @@ public class TextureManager {
         return fallbackTexture;
     }
 
+    /**
+     * Returns the requested sprite region (atlas or standalone), or the fallback if missing.
+     * NEVER returns null.
+     */
+    public TextureRegion getRegion(String key) {
+        TextureRegion region = regions.get(key);
+        return region != null ? region : fallbackRegion;
+    }
+
     public boolean hasTexture(String key) {
-        return textures.containsKey(key);
+        return regions.containsKey(key);
+    }
+
+    public int getAtlasPageCount() {
+        int pages = 0;
+        for (TextureAtlas atlas : atlases) pages += atlas.getTextures().size;
+        return pages;
     }
 
+    /** Releases the atlases and textures made here; AssetManager-loaded textures go with AssetLoader.dispose(). */
     public void dispose() {
-        for (Texture texture : textures.values()) {
+        for (Texture texture : ownedTextures) {
             texture.dispose();
         }
+        ownedTextures.clear();
         textures.clear();
+        regions.clear();
+        for (TextureAtlas atlas : atlases) {
+            atlas.dispose();
+        }
+        atlases.clear();
         if (fallbackTexture != null) {
             fallbackTexture.dispose();
         }